@@ -0,0 +1,81 @@
+/**
+ * 장바구니 값 인코딩/디코딩 벤치마크 (RedisCartRepository의 getCart/담기 경로)
+ * - JSON: 기존 형식 (RedisConfig.jsonSerializer, 클래스명 + ISO 날짜 포함)
+ * - BINARY: CartItemCodec 기본 형식 (varint + 카탈로그 이미지 참조)
+ * - 장바구니 하나(상품 20개) 단위로 측정, 항목당 바이트 수는 Setup에서 출력 (human.txt)
+ */
+package com.clone.backend.benchmark;
+
+import com.clone.backend.config.RedisConfig;
+import com.clone.backend.model.Product;
+import com.clone.backend.model.RedisCartItem;
+import com.clone.backend.repository.CartItemCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@State(Scope.Thread)
+public class CartItemCodecBenchmark {
+
+    private static final int CART_SIZE = 20;
+
+    @Param({ "JSON", "BINARY" })
+    public CartItemCodec.Format format;
+
+    private CartItemCodec codec;
+    private RedisCartItem[] items;
+    private byte[][] encoded;
+
+    @Setup
+    public void setUp() {
+        List<Product> products = SyntheticCatalog.generate(CART_SIZE);
+        Map<Long, String> images = new HashMap<>();
+        for (Product product : products) {
+            images.put(product.getId(), product.getImageUrl());
+        }
+        codec = new CartItemCodec(format, RedisConfig.jsonSerializer(), images::get);
+
+        LocalDateTime now = LocalDateTime.now();
+        items = new RedisCartItem[CART_SIZE];
+        encoded = new byte[CART_SIZE][];
+        long totalBytes = 0;
+        for (int i = 0; i < CART_SIZE; i++) {
+            Product product = products.get(i);
+            items[i] = RedisCartItem.builder()
+                    .productId(product.getId())
+                    .productName(product.getName())
+                    .productImage(product.getImageUrl())
+                    .price(product.getPrice())
+                    .originalPrice(product.getOriginalPrice())
+                    .discountRate(product.getDiscountRate())
+                    .quantity(1 + i % 3)
+                    .addedAt(now.minusMinutes(i))
+                    .build();
+            encoded[i] = codec.encode(items[i]);
+            totalBytes += encoded[i].length;
+        }
+        System.out.printf("%s: %.1f bytes per cart item%n", format, (double) totalBytes / CART_SIZE);
+    }
+
+    @Benchmark
+    public void encodeCart(Blackhole blackhole) {
+        for (RedisCartItem item : items) {
+            blackhole.consume(codec.encode(item));
+        }
+    }
+
+    @Benchmark
+    public void decodeCart(Blackhole blackhole) {
+        for (byte[] value : encoded) {
+            blackhole.consume(codec.decode(value));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * 편집 거리 벤치마크
+ * - levenshtein: 상한 없는 전체 거리 (기존 getLevenshteinDistance 대체)
+ * - bounded: BK-tree 탐색에서 쓰는 임계값 + 밴드 제한 거리 (자모 가중치 포함)
+ * - 키워드 길이별(짧은 품목명 / 긴 복합 키워드)로 측정
+ */
+package com.clone.backend.benchmark;
+
+import com.clone.backend.search.EditDistance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class EditDistanceBenchmark {
+
+    @Param({ "short", "long" })
+    public String length;
+
+    private String source;
+    private String target;
+
+    @Setup
+    public void setUp() {
+        if ("short".equals(length)) {
+            source = "청소귀";
+            target = "청소기";
+        } else {
+            source = "초경량무선청소귀모델A1234";
+            target = "초경량무선청소기모델A1243";
+        }
+    }
+
+    @Benchmark
+    public int levenshtein() {
+        return EditDistance.levenshtein(source, target);
+    }
+
+    @Benchmark
+    public int bounded() {
+        return EditDistance.bounded(source, target, 2 * EditDistance.UNIT, true);
+    }
+}
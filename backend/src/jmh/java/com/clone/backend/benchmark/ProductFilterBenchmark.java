@@ -0,0 +1,77 @@
+/**
+ * 카테고리/가격대 필터 벤치마크
+ * - filterByPriceRange: 패싯 비트맵 AND 후 첫 페이지 ID 조회 (기존 ProductController.filterByPriceRange 대체 경로)
+ * - facetCounts: 사이드바 패싯 개수 계산
+ * - streamScan: 전체 상품 리스트를 스트림으로 거르는 기존 방식 (비교 기준)
+ */
+package com.clone.backend.benchmark;
+
+import com.clone.backend.model.Product;
+import com.clone.backend.search.PriceRange;
+import com.clone.backend.search.ProductFacetIndex;
+import com.clone.backend.search.ProductSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@State(Scope.Thread)
+public class ProductFilterBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "500", "50000", "1000000" })
+    public int catalogSize;
+
+    private List<Product> catalog;
+    private ProductFacetIndex productFacetIndex;
+    private ProductFacetIndex.Filter[] filters;
+    private String[] categories;
+    private PriceRange[] priceRanges;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        catalog = SyntheticCatalog.generate(catalogSize);
+        productFacetIndex = new ProductFacetIndex();
+        productFacetIndex.rebuild(catalog);
+
+        categories = SyntheticCatalog.categories();
+        priceRanges = PriceRange.values();
+        filters = new ProductFacetIndex.Filter[categories.length * priceRanges.length];
+        for (int i = 0; i < filters.length; i++) {
+            filters[i] = new ProductFacetIndex.Filter(
+                    categories[i / priceRanges.length], priceRanges[i % priceRanges.length], null, null);
+        }
+    }
+
+    @Benchmark
+    public ProductFacetIndex.Page filterByPriceRange() {
+        RoaringBitmap matched = productFacetIndex.filter(filters[next++ % filters.length]);
+        return productFacetIndex.page(matched, ProductSort.PRICE, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Map<String, Object> facetCounts() {
+        return productFacetIndex.counts(filters[next++ % filters.length], null);
+    }
+
+    @Benchmark
+    public List<Product> streamScan() {
+        int i = next++ % filters.length;
+        String category = categories[i / priceRanges.length];
+        PriceRange priceRange = priceRanges[i % priceRanges.length];
+        return catalog.stream()
+                .filter(p -> category.equals(p.getCategory()))
+                .filter(p -> PriceRange.of(p.getPrice()) == priceRange)
+                .sorted((a, b) -> Integer.compare(a.getPrice(), b.getPrice()))
+                .limit(PAGE_SIZE)
+                .collect(Collectors.toList());
+    }
+}
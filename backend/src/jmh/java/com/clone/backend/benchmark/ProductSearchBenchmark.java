@@ -0,0 +1,57 @@
+/**
+ * 검색어 오타수정/상품명 검색 벤치마크
+ * - ProductService.findClosestMatch: 검색 결과 유무 확인 후 BK-tree 키워드 인덱스에서 최근접 키워드 탐색
+ * - ProductSearchIndex.search: n-gram 역색인 검색 + 관련도/인기도 정렬
+ * - 인덱스는 Trial 시작 시 한 번만 구축 (요청 처리 경로만 측정)
+ */
+package com.clone.backend.benchmark;
+
+import com.clone.backend.model.Product;
+import com.clone.backend.search.ProductFacetIndex;
+import com.clone.backend.search.ProductSearchIndex;
+import com.clone.backend.search.TypoCorrectionIndex;
+import com.clone.backend.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Thread)
+public class ProductSearchBenchmark {
+
+    private static final String[] SEARCH_QUERIES = { "청소기", "무선 이어폰", "삼성 노트북", "생수 2L", "운동화" };
+
+    @Param({ "500", "50000", "1000000" })
+    public int catalogSize;
+
+    private ProductService productService;
+    private ProductSearchIndex productSearchIndex;
+    private String[] typoQueries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Product> catalog = SyntheticCatalog.generate(catalogSize);
+        TypoCorrectionIndex typoCorrectionIndex = new TypoCorrectionIndex();
+        typoCorrectionIndex.rebuild(catalog);
+        productSearchIndex = new ProductSearchIndex();
+        productSearchIndex.rebuild(catalog);
+        // findClosestMatch는 DB, 목록/JSON 캐시, 카탈로그 스냅샷을 쓰지 않으므로 해당 의존성 없이 생성
+        productService = new ProductService(null, new ProductFacetIndex(), productSearchIndex,
+                typoCorrectionIndex, null, null, null);
+        typoQueries = SyntheticCatalog.typoQueries(64).toArray(new String[0]);
+    }
+
+    @Benchmark
+    public String findClosestMatch() {
+        return productService.findClosestMatch(typoQueries[next++ & 63]);
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return productSearchIndex.search(SEARCH_QUERIES[next++ % SEARCH_QUERIES.length]);
+    }
+}
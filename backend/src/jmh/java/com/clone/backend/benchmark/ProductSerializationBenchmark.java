@@ -0,0 +1,40 @@
+/**
+ * 상품 목록 JSON 직렬화 벤치마크
+ * - 애플리케이션과 같은 설정의 ObjectMapper (Jackson2ObjectMapperBuilder) 사용
+ * - 직렬화 비용은 카탈로그 크기가 아닌 응답 상품 수에 비례하므로 페이지 크기별로 측정
+ *   (20: 일반 페이지, 1000: ProductService.MAX_PAGE_SIZE)
+ */
+package com.clone.backend.benchmark;
+
+import com.clone.backend.model.Product;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+@State(Scope.Thread)
+public class ProductSerializationBenchmark {
+
+    @Param({ "20", "1000" })
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<Product> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        page = SyntheticCatalog.generate(pageSize);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * 벤치마크용 합성 한국어 상품 카탈로그
+ * - "[브랜드] 수식어 품목 모델코드 옵션" 형태의 상품명을 고정 시드로 생성 (실행마다 같은 카탈로그)
+ * - 카테고리는 프론트엔드 categoryMap과 같은 키 사용 (food, electronics, fashion, ...)
+ * - 모델코드는 일정 개수로 순환시켜 카탈로그가 커져도 키워드 수가 현실적인 범위에 머물도록 함
+ * - 오타 검색어는 실제 키워드의 한 음절 모음을 바꿔 생성 (예: 청소기 -> 청소귀)
+ */
+package com.clone.backend.benchmark;
+
+import com.clone.backend.model.Product;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class SyntheticCatalog {
+
+    static final long SEED = 11L;
+
+    private static final String[] CATEGORIES = {
+            "food", "electronics", "fashion", "daily", "furniture", "ticket"
+    };
+
+    /** 카테고리별 품목 (CATEGORIES와 같은 순서) */
+    private static final String[][] ITEMS = {
+            { "신라면", "햇반", "생수", "김치", "참치캔", "견과류", "닭가슴살", "우유", "커피믹스", "라면세트" },
+            { "노트북", "모니터", "청소기", "냉장고", "세탁기", "이어폰", "스마트폰", "태블릿", "키보드", "에어프라이어" },
+            { "운동화", "티셔츠", "청바지", "패딩", "원피스", "슬리퍼", "후드티", "가디건", "백팩", "모자" },
+            { "화장지", "세제", "샴푸", "칫솔", "치약", "물티슈", "수건", "섬유유연제", "주방세제", "방향제" },
+            { "침대", "소파", "책상", "의자", "옷장", "식탁", "책장", "매트리스", "서랍장", "수납장" },
+            { "상품권", "모바일쿠폰", "영화관람권", "문화상품권", "외식상품권", "주유권", "도서상품권", "편의점상품권", "커피쿠폰", "기프트카드" }
+    };
+
+    private static final String[] BRANDS = {
+            "삼성", "엘지", "농심", "오뚜기", "나이키", "아디다스", "한샘", "이케아", "유한킴벌리", "아모레퍼시픽",
+            "씨제이", "동원", "애플", "샤오미", "뉴발란스", "까사미아", "피앤지", "풀무원", "매일", "스타벅스"
+    };
+
+    private static final String[] MODIFIERS = {
+            "초경량", "무선", "대용량", "프리미엄", "가성비", "신상", "특가", "정품", "국내산", "리뉴얼",
+            "슬림", "오가닉", "고속충전", "저소음", "기획", "한정판"
+    };
+
+    private static final String[] OPTIONS = {
+            "1개", "2개입", "5개입", "10개입", "30개입", "블랙", "화이트", "네이비", "대형", "소형", "500ml", "2L"
+    };
+
+    /** 서로 다른 모델코드 수 (키워드 어휘 크기 상한) */
+    private static final int MODEL_CODES = 5000;
+
+    private SyntheticCatalog() {
+    }
+
+    /**
+     * 상품 ID 1..size 카탈로그 생성
+     * - 약 2%는 타임딜, 앞쪽 100개는 베스트 순위 상품
+     */
+    static List<Product> generate(int size) {
+        Random random = new Random(SEED);
+        LocalDateTime now = LocalDateTime.now();
+        List<Product> products = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            int category = random.nextInt(CATEGORIES.length);
+            String name = "[" + pick(random, BRANDS) + "] "
+                    + pick(random, MODIFIERS) + " "
+                    + pick(random, ITEMS[category]) + " "
+                    + "모델" + (char) ('A' + random.nextInt(26)) + random.nextInt(MODEL_CODES) + " "
+                    + pick(random, OPTIONS);
+            int originalPrice = (1 + random.nextInt(300)) * 1000;
+            int discountRate = random.nextInt(5) == 0 ? 0 : 5 * (1 + random.nextInt(14));
+            boolean timeDeal = random.nextInt(50) == 0;
+            products.add(Product.builder()
+                    .id((long) i)
+                    .name(name)
+                    .price(originalPrice * (100 - discountRate) / 100)
+                    .originalPrice(originalPrice)
+                    .discountRate(discountRate)
+                    .imageUrl("https://cdn.example.com/products/" + i + ".jpg")
+                    .category(CATEGORIES[category])
+                    .isTimeDeal(timeDeal)
+                    .timeDealEndTime(timeDeal ? now.plusMinutes(random.nextInt(24 * 60)) : null)
+                    .isBest(i <= 100)
+                    .rank(i <= 100 ? i : null)
+                    .stockQuantity(random.nextInt(1000))
+                    .build());
+        }
+        return products;
+    }
+
+    /**
+     * 카탈로그에 없는 오타 검색어 생성 (품목명의 한 음절 중성을 다음 모음으로 변경)
+     */
+    static List<String> typoQueries(int count) {
+        Random random = new Random(SEED);
+        List<String> queries = new ArrayList<>(count);
+        while (queries.size() < count) {
+            String[] items = ITEMS[random.nextInt(ITEMS.length)];
+            char[] chars = items[random.nextInt(items.length)].toCharArray();
+            int pos = random.nextInt(chars.length);
+            int syllable = chars[pos] - 0xAC00;
+            int jung = (syllable / 28) % 21;
+            chars[pos] = (char) (chars[pos] + (jung == 20 ? -20 * 28 : 28));
+            queries.add(new String(chars));
+        }
+        return queries;
+    }
+
+    static String[] categories() {
+        return CATEGORIES.clone();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -3,13 +3,16 @@
  * - 앱 시작 시 main() 메소드가 호출됨
  * - @SpringBootApplication으로 자동 설정 및 컴포넌트 스캔 수행
  * - 내장 Tomcat 서버를 8080 포트에서 실행
+ * - @EnableScheduling: 카탈로그 변경 폴링 등 주기 작업 활성화
  */
 package com.clone.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class BackendApplication {
 
 	public static void main(String[] args) {
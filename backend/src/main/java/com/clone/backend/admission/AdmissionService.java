@@ -0,0 +1,150 @@
+/**
+ * 타임딜 대기열 / 입장 제어 서비스
+ * - 타임딜 상품의 결제(재고 예약)는 서명된 입장권이 있어야 진행 (일반 상품은 대상 아님)
+ * - 상품별 토큰 버킷(초당 입장 수, 버킷 크기)과 Redis 대기열(ZSET, 도착 순번 점수)로 입장 속도를 제한
+ *   (버킷/대기열은 Redis에 있어 여러 인스턴스가 같은 속도와 순서를 공유)
+ * - 대기열이 비어 있고 버킷에 여유가 있으면 바로 입장, 아니면 도착 순서대로 대기하며 순번 반환
+ * - 입장 처리는 주기적으로 대기열 앞에서부터 버킷이 허용하는 만큼만 수행 (Lua 스크립트로 원자적)
+ *   스크립트는 입장한 사용자 ID만 반환하고 사용자별 입장 표시 키는 서비스가 설정 (스크립트는 KEYS로 받은 키만 씀)
+ * - 입장권은 HMAC 서명 토큰이라 결제 시 검증에 Redis 조회가 필요 없음
+ */
+package com.clone.backend.admission;
+
+import com.clone.backend.catalog.CatalogReadModel;
+import com.clone.backend.model.Product;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class AdmissionService {
+
+    private static final String KEY_PREFIX = "admission:";
+    private static final String ACTIVE_KEY = "admission:active";
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionService.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CatalogReadModel catalogReadModel;
+    private final AdmissionTokenSigner signer;
+    private final double ratePerSecond;
+    private final int burst;
+    private final Duration tokenTtl;
+    private final long pollIntervalMs;
+
+    private final DefaultRedisScript<Long> enterScript = script("redis/admission-enter.lua");
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> admitScript = new DefaultRedisScript<>();
+
+    public AdmissionService(StringRedisTemplate redisTemplate, CatalogReadModel catalogReadModel,
+            @Value("${admission.token-secret}") String tokenSecret,
+            @Value("${admission.rate-per-second:50}") double ratePerSecond,
+            @Value("${admission.burst:100}") int burst,
+            @Value("${admission.token-ttl:5m}") Duration tokenTtl,
+            @Value("${admission.poll-interval-ms:2000}") long pollIntervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.catalogReadModel = catalogReadModel;
+        this.signer = new AdmissionTokenSigner(tokenSecret);
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.tokenTtl = tokenTtl;
+        this.pollIntervalMs = pollIntervalMs;
+        admitScript.setLocation(new ClassPathResource("redis/admission-admit.lua"));
+        admitScript.setResultType(List.class);
+    }
+
+    /**
+     * 입장권이 필요한 상품인지 (진행 중인 타임딜)
+     */
+    public boolean requiresAdmission(long productId) {
+        return catalogReadModel.findById(productId).map(Product::isTimeDeal).orElse(false);
+    }
+
+    /**
+     * 대기열 입장 또는 상태 확인 (반복 호출해도 순번 유지)
+     * 입장 가능하면 서명된 입장권, 아니면 현재 대기 순번 반환
+     */
+    public AdmissionStatus enter(long userId, long productId) {
+        long now = System.currentTimeMillis();
+        if (!requiresAdmission(productId)) {
+            return admitted(userId, productId, now);
+        }
+
+        String prefix = KEY_PREFIX + productId;
+        Long position = redisTemplate.execute(enterScript,
+                List.of(prefix + ":bucket", prefix + ":queue", passKeyPrefix(productId) + userId, prefix + ":seq",
+                        ACTIVE_KEY),
+                String.valueOf(now), String.valueOf(ratePerSecond), String.valueOf(burst), String.valueOf(userId),
+                String.valueOf(tokenTtl.toMillis()), String.valueOf(productId));
+        if (position == null || position == 0) {
+            return admitted(userId, productId, now);
+        }
+        // 앞선 대기자가 입장하는 데 걸릴 예상 시간만큼 (최소 폴링 간격) 기다렸다가 다시 확인
+        long expectedWaitMs = (long) (position * 1000 / ratePerSecond);
+        return AdmissionStatus.waiting(position, Math.max(pollIntervalMs, Math.min(expectedWaitMs, 10_000)));
+    }
+
+    /**
+     * 입장권 검증 (사용자/상품 일치, 서명, 만료)
+     */
+    public boolean isAdmitted(String token, long userId, long productId) {
+        return signer.verify(token, userId, productId, System.currentTimeMillis());
+    }
+
+    /**
+     * 대기열이 있는 상품마다 버킷이 허용하는 만큼 입장 처리
+     */
+    @Scheduled(fixedDelayString = "${admission.admit-interval-ms:200}")
+    public void admitWaiting() {
+        Set<String> productIds;
+        try {
+            productIds = redisTemplate.opsForSet().members(ACTIVE_KEY);
+        } catch (RuntimeException e) {
+            log.warn("Skipping admission: Redis unavailable", e);
+            return;
+        }
+        if (productIds == null) {
+            return;
+        }
+
+        String now = String.valueOf(System.currentTimeMillis());
+        for (String productId : productIds) {
+            String prefix = KEY_PREFIX + productId;
+            List<?> admitted = redisTemplate.execute(admitScript,
+                    List.of(prefix + ":bucket", prefix + ":queue", ACTIVE_KEY),
+                    now, String.valueOf(ratePerSecond), String.valueOf(burst), productId);
+            if (admitted == null || admitted.isEmpty()) {
+                continue;
+            }
+            for (Object userId : admitted) {
+                redisTemplate.opsForValue().set(passKeyPrefix(productId) + userId, "1", tokenTtl);
+            }
+            log.debug("Admitted {} users to time deal {}", admitted.size(), productId);
+        }
+    }
+
+    private AdmissionStatus admitted(long userId, long productId, long now) {
+        long expiresAt = now + tokenTtl.toMillis();
+        return AdmissionStatus.admitted(signer.issue(userId, productId, expiresAt), expiresAt);
+    }
+
+    private static String passKeyPrefix(Object productId) {
+        return KEY_PREFIX + productId + ":pass:";
+    }
+
+    private static DefaultRedisScript<Long> script(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
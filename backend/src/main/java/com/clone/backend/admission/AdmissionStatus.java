@@ -0,0 +1,29 @@
+/**
+ * 대기열 상태 응답 DTO
+ * - admitted: 입장 가능 여부 (true면 token을 결제 요청의 X-Admission-Token 헤더로 전달)
+ * - position: 대기 순번 (입장 전에만, 1부터)
+ * - retryAfterMs: 다음 상태 확인까지 권장 대기 시간
+ */
+package com.clone.backend.admission;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AdmissionStatus {
+
+    private final boolean admitted;
+    private final String token;
+    private final Long expiresAt;
+    private final Long position;
+    private final long retryAfterMs;
+
+    public static AdmissionStatus admitted(String token, long expiresAt) {
+        return new AdmissionStatus(true, token, expiresAt, null, 0);
+    }
+
+    public static AdmissionStatus waiting(long position, long retryAfterMs) {
+        return new AdmissionStatus(false, null, null, position, retryAfterMs);
+    }
+}
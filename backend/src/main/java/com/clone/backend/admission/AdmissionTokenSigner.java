@@ -0,0 +1,73 @@
+/**
+ * 입장권 서명/검증 (HMAC-SHA256)
+ * - 토큰 형식: base64url(사용자 ID:상품 ID:만료 시각 ms).base64url(서명)
+ * - 검증에 Redis/DB 조회가 필요 없어 결제 경로에 부하를 더하지 않음
+ * - 서명 비교는 상수 시간 (MessageDigest.isEqual)
+ */
+package com.clone.backend.admission;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+public final class AdmissionTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public AdmissionTokenSigner(String secret) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("Admission token secret is required");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String issue(long userId, long productId, long expiresAtMillis) {
+        byte[] payload = (userId + ":" + productId + ":" + expiresAtMillis).getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    /**
+     * 사용자/상품이 일치하고 만료되지 않은 올바른 서명의 토큰인지 확인
+     */
+    public boolean verify(String token, long userId, long productId, long nowMillis) {
+        if (token == null) {
+            return false;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return false;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payload = decoder.decode(token.substring(0, dot));
+            byte[] signature = decoder.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return false;
+            }
+
+            String[] fields = new String(payload, StandardCharsets.UTF_8).split(":");
+            return fields.length == 3
+                    && Long.parseLong(fields[0]) == userId
+                    && Long.parseLong(fields[1]) == productId
+                    && Long.parseLong(fields[2]) > nowMillis;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC unavailable", e);
+        }
+    }
+}
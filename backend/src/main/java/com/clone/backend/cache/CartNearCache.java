@@ -0,0 +1,178 @@
+/**
+ * 장바구니 Near Cache (인스턴스 내 Caffeine, 사용자 ID -> 복원된 장바구니 항목)
+ * - 변경이 없으면 반복 조회를 HGETALL + 역직렬화 없이 메모리에서 응답
+ * - 무효화: Redis keyspace notification(__keyspace@*__:cart:*) 구독 - 어느 인스턴스에서 바꾸든(만료 포함) 모든 인스턴스가 제거
+ *   (RESP3 CLIENT TRACKING은 풀링된 Spring Data Redis 연결로는 무효화 메시지를 받을 수 없어 keyspace notification 사용)
+ * - 이 인스턴스의 변경은 알림을 기다리지 않고 바로 무효화 (쓰기 직후 같은 사용자의 조회는 항상 최신)
+ * - 조회 중에 무효화가 끼면 읽은 값을 저장하지 않음 (구간별 세대 번호로 판정) - 오래된 값이 남지 않음
+ * - 기동 시 notify-keyspace-events에 필요한 플래그가 없으면 추가, 설정할 수 없으면 캐시를 끄고 매번 Redis 조회
+ * - 알림 유실(구독 연결 끊김 등)에 대비해 항목은 ttl 후 만료
+ * - 적중/실패 지표: /actuator/metrics/cache.gets?tag=cache:cartNear
+ */
+package com.clone.backend.cache;
+
+import com.clone.backend.model.RedisCartItem;
+import com.clone.backend.repository.RedisCartRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+@Component
+public class CartNearCache {
+
+    public static final String CACHE_NAME = "cartNear";
+
+    private static final String NOTIFY_CONFIG = "notify-keyspace-events";
+    private static final String KEYSPACE_PREFIX = "__keyspace@";
+    // 'A'는 g$lshzxetd 전체의 별칭
+    private static final String ALL_EVENT_TYPES = "g$lshzxetd";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(CartNearCache.class);
+
+    private final Cache<Long, List<RedisCartItem>> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final StringRedisTemplate redisTemplate;
+    private final boolean configured;
+    private final String requiredEvents;
+    private volatile boolean enabled;
+
+    public CartNearCache(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${cart.near-cache.enabled:true}") boolean configured,
+            @Value("${cart.near-cache.max-entries:10000}") long maxEntries,
+            @Value("${cart.near-cache.ttl:60s}") Duration ttl,
+            @Value("${cart.near-cache.notify-keyspace-events:Kghxe}") String requiredEvents) {
+        this.redisTemplate = redisTemplate;
+        this.configured = configured;
+        this.requiredEvents = requiredEvents;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        if (configured) {
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> onKeyspaceEvent(new String(message.getChannel(), StandardCharsets.UTF_8),
+                            new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new PatternTopic(KEYSPACE_PREFIX + "*__:" + RedisCartRepository.CART_KEY_PREFIX + "*"));
+        }
+    }
+
+    /**
+     * keyspace notification 설정 확인 (필요한 플래그만 추가, 기존 설정은 유지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void enableNotifications() {
+        if (!configured) {
+            return;
+        }
+        try {
+            Properties config = redisTemplate.execute(
+                    (RedisCallback<Properties>) connection -> connection.serverCommands().getConfig(NOTIFY_CONFIG));
+            String current = config != null ? config.getProperty(NOTIFY_CONFIG, "") : "";
+            String missing = missingFlags(current, requiredEvents);
+            if (!missing.isEmpty()) {
+                redisTemplate.execute((RedisCallback<Void>) connection -> {
+                    connection.serverCommands().setConfig(NOTIFY_CONFIG, current + missing);
+                    return null;
+                });
+                log.info("Enabled Redis keyspace notifications '{}' for cart near cache", current + missing);
+            }
+            enabled = true;
+        } catch (RuntimeException e) {
+            log.warn("Cart near cache disabled: cannot verify Redis {} ({})", NOTIFY_CONFIG, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 장바구니를 반환하고, 없으면 loader로 조회해 저장
+     */
+    public List<RedisCartItem> get(Long userId, Function<Long, List<RedisCartItem>> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        List<RedisCartItem> cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        List<RedisCartItem> loaded = List.copyOf(loader.apply(userId));
+        cache.put(userId, loaded);
+        // 조회 도중 무효화됐으면 방금 넣은 값도 제거 (무효화가 put 이후라면 그쪽에서 제거됨)
+        if (generations.get(stripe) != generation) {
+            cache.invalidate(userId);
+        }
+        return loaded;
+    }
+
+    /**
+     * 장바구니 변경 후 호출 (Redis 쓰기가 끝난 뒤)
+     */
+    public void invalidate(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        cache.invalidate(userId);
+    }
+
+    // channel: __keyspace@{db}__:cart:{userId}, body: 이벤트 이름 (hset, hincrby, hdel, del, expired, ...)
+    private void onKeyspaceEvent(String channel, String event) {
+        if ("expire".equals(event)) {
+            return; // TTL 갱신만으로는 내용이 바뀌지 않음
+        }
+        Long userId = userIdOf(channel);
+        if (userId != null) {
+            invalidate(userId);
+        }
+    }
+
+    static Long userIdOf(String channel) {
+        int start = channel.indexOf("__:" + RedisCartRepository.CART_KEY_PREFIX);
+        if (!channel.startsWith(KEYSPACE_PREFIX) || start < 0) {
+            return null;
+        }
+        try {
+            return Long.valueOf(channel.substring(start + 3 + RedisCartRepository.CART_KEY_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 현재 notify-keyspace-events 설정에 없는 필요한 플래그 ('A'는 g$lshzxetd로 취급)
+     */
+    static String missingFlags(String current, String required) {
+        String effective = current.contains("A") ? current + ALL_EVENT_TYPES : current;
+        StringBuilder missing = new StringBuilder();
+        for (char flag : required.toCharArray()) {
+            if (effective.indexOf(flag) < 0 && missing.indexOf(String.valueOf(flag)) < 0) {
+                missing.append(flag);
+            }
+        }
+        return missing.toString();
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) GENERATION_STRIPES);
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * 미리 직렬화된 상품 목록 JSON 캐시 (홈 화면 타임딜/베스트 목록)
+ * - 정규화된 조회 조건(ProductQuery) -> UTF-8 JSON byte[] (+ 일정 크기 이상이면 gzip 압축본)
+ * - 요청마다 Jackson 직렬화를 하지 않고 바이트를 그대로 응답에 기록 (요청당 CPU/할당 거의 없음)
+ * - 항목마다 렌더링 시점의 카탈로그 버전을 기록하고, 버전이 바뀐 뒤 첫 요청에서만 다시 렌더링
+ *   (같은 키의 동시 요청은 한 번만 렌더링)
+ * - 렌더링은 ProductListCache를 거치지 않고 인덱스에서 바로 계산 (캐시 위에 캐시를 쌓지 않음)
+ */
+package com.clone.backend.cache;
+
+import com.clone.backend.catalog.CatalogVersion;
+import com.clone.backend.dto.ProductPage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class ProductJsonCache {
+
+    public static final String CACHE_NAME = "productJson";
+
+    /**
+     * 렌더링된 한 페이지 (gzip은 작은 응답이면 null)
+     */
+    public static final class Rendered {
+        private final long version;
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String nextCursor;
+
+        private Rendered(long version, byte[] json, byte[] gzip, String nextCursor) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+            this.nextCursor = nextCursor;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+    }
+
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+    private final Cache<ProductQuery, Rendered> cache;
+
+    public ProductJsonCache(CatalogVersion catalogVersion, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${product.json-cache.max-entries:256}") long maxEntries,
+            @Value("${product.json-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.catalogVersion = catalogVersion;
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 미리 직렬화 대상 여부 (검색어 없는 타임딜/베스트 목록)
+     */
+    public boolean supports(ProductQuery query) {
+        return query.getSearch() == null
+                && (query.getKind() == ProductQuery.Kind.TIMEDEAL || query.getKind() == ProductQuery.Kind.BEST);
+    }
+
+    /**
+     * 현재 카탈로그 버전으로 렌더링된 페이지 반환 (없거나 이전 버전이면 loader로 조회하여 렌더링)
+     * 버전을 데이터보다 먼저 읽으므로 렌더링 중 변경이 생기면 다음 요청에서 다시 렌더링됨
+     */
+    public Rendered get(ProductQuery query, Function<ProductQuery, ProductPage> loader) {
+        long version = catalogVersion.current().getVersion();
+        Rendered cached = cache.getIfPresent(query);
+        if (cached != null && cached.getVersion() >= version) {
+            return cached;
+        }
+        return cache.asMap().compute(query, (key, existing) -> existing != null && existing.getVersion() >= version
+                ? existing
+                : render(loader.apply(key), version));
+    }
+
+    private Rendered render(ProductPage page, long version) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(page.getItems());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize product list", e);
+        }
+        byte[] gzip = json.length >= gzipMinBytes ? gzip(json) : null;
+        return new Rendered(version, json, gzip, page.getNextCursor());
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * 상품 목록 조회 결과 캐시 (Caffeine)
+ * - 정규화된 조회 조건(ProductQuery) -> 한 페이지 결과(ProductPage)
+ * - W-TinyLFU 방출: 홈 화면처럼 자주 조회되는 목록은 일회성 검색어 조회에 밀려나지 않음
+ * - 크기 기준: 항목 수가 아닌 예상 메모리 바이트(가중치) 합계로 제한
+ * - 목록 종류별 TTL (타임딜은 짧게, 카테고리 목록은 길게)
+ * - 동일 키 동시 요청은 한 번만 DB를 조회 (나머지는 결과를 기다림)
+ * - 상품 변경 시 해당 상품이 들어 있거나 들어갈 수 있는 페이지만 무효화 (CatalogChangedEvent)
+ *   캐시 키를 상품 ID별, 필터 조건(카테고리/가격대/종류)별로 색인해 두어 변경마다 캐시 전체를 훑지 않음
+ *   조회 중에 무효화가 끼면 읽은 페이지를 남기지 않음 (무효화 세대 번호로 판정) - 이전 페이지가 TTL 동안 남지 않음
+ *   재고만 바뀐 변경은 목록 구성/정렬과 무관하므로 무효화하지 않음 (페이지의 재고 수치는 TTL 동안 이전 값)
+ * - 적중/실패 지표는 Micrometer로 노출 (/actuator/metrics/cache.gets?tag=cache:productList)
+ */
+package com.clone.backend.cache;
+
+import com.clone.backend.catalog.CatalogChangedEvent;
+import com.clone.backend.catalog.ProductChange;
+import com.clone.backend.dto.ProductPage;
+import com.clone.backend.model.Product;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class ProductListCache {
+
+    public static final String CACHE_NAME = "productList";
+
+    // 상품 한 건의 고정 비용 (객체 헤더, 필드, LocalDateTime 등) 추정치
+    private static final int PRODUCT_OVERHEAD_BYTES = 160;
+    private static final int PAGE_OVERHEAD_BYTES = 64;
+
+    /**
+     * 캐시 값: 페이지와 무효화 색인용 상품 ID
+     */
+    private static final class Entry {
+        private final ProductPage page;
+        private final long[] productIds;
+        private final int weight;
+
+        private Entry(ProductPage page) {
+            this.page = page;
+            this.productIds = new long[page.getItems().size()];
+            long bytes = PAGE_OVERHEAD_BYTES;
+            for (int i = 0; i < productIds.length; i++) {
+                Product product = page.getItems().get(i);
+                productIds[i] = product.getId();
+                bytes += PRODUCT_OVERHEAD_BYTES + 2L * (length(product.getName()) + length(product.getImageUrl())
+                        + length(product.getCategory()));
+            }
+            this.weight = (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+    }
+
+    private final Cache<ProductQuery, Entry> cache;
+    // 상품 ID -> 그 상품이 들어 있는 캐시 항목, 필터 조건 -> 그 조건의 캐시 항목
+    // (항목 객체까지 보관해 제거 알림이 같은 키로 새로 적재된 항목의 색인을 지우지 않게 함)
+    private final Map<Long, Map<ProductQuery, Entry>> entriesByProduct = new ConcurrentHashMap<>();
+    private final Map<ProductQuery, Map<ProductQuery, Entry>> entriesByFilter = new ConcurrentHashMap<>();
+    private final Map<ProductQuery.Kind, Long> ttlNanos = new EnumMap<>(ProductQuery.Kind.class);
+    // 무효화(목록에 영향을 주는 변경)마다 증가
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProductListCache(MeterRegistry meterRegistry,
+            @Value("${product.cache.max-weight-bytes:67108864}") long maxWeightBytes,
+            @Value("${product.cache.ttl.timedeal:10s}") Duration timeDealTtl,
+            @Value("${product.cache.ttl.best:60s}") Duration bestTtl,
+            @Value("${product.cache.ttl.search:120s}") Duration searchTtl,
+            @Value("${product.cache.ttl.category:300s}") Duration categoryTtl) {
+        ttlNanos.put(ProductQuery.Kind.TIMEDEAL, timeDealTtl.toNanos());
+        ttlNanos.put(ProductQuery.Kind.BEST, bestTtl.toNanos());
+        ttlNanos.put(ProductQuery.Kind.SEARCH, searchTtl.toNanos());
+        ttlNanos.put(ProductQuery.Kind.CATEGORY, categoryTtl.toNanos());
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((ProductQuery query, Entry entry) -> entry.weight)
+                .expireAfter(new Expiry<ProductQuery, Entry>() {
+                    @Override
+                    public long expireAfterCreate(ProductQuery query, Entry entry, long currentTime) {
+                        return ttlNanos.get(query.getKind());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ProductQuery query, Entry entry, long currentTime,
+                            long currentDuration) {
+                        return ttlNanos.get(query.getKind());
+                    }
+
+                    @Override
+                    public long expireAfterRead(ProductQuery query, Entry entry, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .removalListener((ProductQuery query, Entry entry, RemovalCause cause) -> unregister(query, entry))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 페이지를 반환하고, 없으면 loader로 조회하여 저장
+     */
+    public ProductPage get(ProductQuery query, Function<ProductQuery, ProductPage> loader) {
+        long before = generation.get();
+        Entry[] loaded = new Entry[1];
+        Entry entry = cache.get(query, key -> {
+            loaded[0] = new Entry(loader.apply(key));
+            // 항목이 보이기 전에 색인 (무효화가 이 키를 찾으면 적재가 끝날 때까지 기다렸다가 제거)
+            register(key, loaded[0]);
+            return loaded[0];
+        });
+        // 조회 도중 무효화가 있었으면 이전 인덱스로 만든 페이지일 수 있으므로 방금 넣은 항목 제거
+        // (색인 등록 전에 지나간 무효화는 이 항목을 찾지 못함)
+        if (loaded[0] != null && generation.get() != before) {
+            cache.asMap().remove(query, loaded[0]);
+        }
+        return entry.page;
+    }
+
+    /**
+     * 인덱스 반영이 끝난 변경에 대해 영향받는 페이지만 무효화
+     * - 변경/삭제된 상품이 들어 있는 페이지
+     * - 변경 후 상품이 조건에 맞아 새로 들어갈 수 있는 페이지 (정렬 위치가 바뀔 수 있음)
+     * - 키셋 페이지네이션이라 페이지 밖 상품의 삭제는 다른 페이지 내용을 바꾸지 않음
+     * - 카탈로그 버전 증가보다 먼저 실행 (새 ETag로 무효화 전 페이지를 내보내지 않도록)
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.isStockOnly()) {
+            return;
+        }
+        generation.incrementAndGet();
+        if (event.isReload()) {
+            cache.invalidateAll();
+            return;
+        }
+
+        ProductChange change = event.getChange();
+        long productId = change.getProductId();
+        Product product = change.getType() == ProductChange.Type.DELETE ? null : change.getProduct();
+        invalidate(entriesByProduct.get(productId));
+        if (product != null) {
+            entriesByFilter.forEach((filter, entries) -> {
+                if (filter.mayContain(product)) {
+                    invalidate(entries);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Map<ProductQuery, Entry> entries) {
+        if (entries != null) {
+            entries.forEach((query, entry) -> cache.asMap().remove(query, entry));
+        }
+    }
+
+    private void register(ProductQuery query, Entry entry) {
+        for (long productId : entry.productIds) {
+            entriesByProduct.compute(productId, (id, entries) -> add(entries, query, entry));
+        }
+        entriesByFilter.compute(query.filterKey(), (filter, entries) -> add(entries, query, entry));
+    }
+
+    private void unregister(ProductQuery query, Entry entry) {
+        if (query == null || entry == null) {
+            return;
+        }
+        for (long productId : entry.productIds) {
+            entriesByProduct.computeIfPresent(productId, (id, entries) -> remove(entries, query, entry));
+        }
+        entriesByFilter.computeIfPresent(query.filterKey(), (filter, entries) -> remove(entries, query, entry));
+    }
+
+    private static Map<ProductQuery, Entry> add(Map<ProductQuery, Entry> entries, ProductQuery query, Entry entry) {
+        Map<ProductQuery, Entry> result = entries != null ? entries : new ConcurrentHashMap<>();
+        result.put(query, entry);
+        return result;
+    }
+
+    private static Map<ProductQuery, Entry> remove(Map<ProductQuery, Entry> entries, ProductQuery query,
+            Entry entry) {
+        entries.remove(query, entry);
+        return entries.isEmpty() ? null : entries;
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * 상품 목록 조회 조건 (ProductListCache 키)
+ * - 같은 결과를 내는 요청이 같은 키가 되도록 파라미터를 정규화
+ *   카테고리 "all"/빈 값 -> null, 검색어 -> 분석기 용어를 공백으로 연결, 알 수 없는 type/priceRange -> null
+ *   정렬은 기본값이 적용된 ProductSort, 커서는 다시 인코딩한 값, limit은 실제 페이지 크기
+ * - mayContain(): 상품이 이 조건의 결과에 들어갈 수 있는지 (검색어 일치 여부는 보수적으로 true)
+ */
+package com.clone.backend.cache;
+
+import com.clone.backend.model.Product;
+import com.clone.backend.search.PriceRange;
+import com.clone.backend.search.ProductCursor;
+import com.clone.backend.search.ProductFacetIndex;
+import com.clone.backend.search.ProductSort;
+import com.clone.backend.search.ProductTextAnalyzer;
+
+import java.util.Objects;
+
+public final class ProductQuery {
+
+    /**
+     * 목록 종류 (종류별로 캐시 TTL이 다름)
+     */
+    public enum Kind {
+        TIMEDEAL, BEST, SEARCH, CATEGORY
+    }
+
+    private final String category;
+    private final String search;
+    private final String type;
+    private final PriceRange priceRange;
+    private final ProductSort sort;
+    private final ProductCursor cursor;
+    private final String after;
+    private final int limit;
+
+    public ProductQuery(String category, String search, String type, PriceRange priceRange, ProductSort sort,
+            ProductCursor cursor, int limit) {
+        this.category = category == null || category.isBlank() || "all".equals(category) ? null : category;
+        this.search = search != null ? String.join(" ", ProductTextAnalyzer.terms(search)) : null;
+        this.type = "timedeal".equals(type) || "best".equals(type) ? type : null;
+        this.priceRange = priceRange;
+        this.sort = sort;
+        this.cursor = cursor;
+        this.after = cursor != null ? cursor.encode() : null;
+        this.limit = limit;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getSearch() {
+        return search;
+    }
+
+    public ProductSort getSort() {
+        return sort;
+    }
+
+    public ProductCursor getCursor() {
+        return cursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Kind getKind() {
+        if ("timedeal".equals(type)) {
+            return Kind.TIMEDEAL;
+        }
+        if ("best".equals(type)) {
+            return Kind.BEST;
+        }
+        return search != null ? Kind.SEARCH : Kind.CATEGORY;
+    }
+
+    public ProductFacetIndex.Filter toFilter() {
+        return new ProductFacetIndex.Filter(
+                category,
+                priceRange,
+                "timedeal".equals(type) ? Boolean.TRUE : null,
+                "best".equals(type) ? Boolean.TRUE : null);
+    }
+
+    /**
+     * mayContain() 판정에 쓰이는 조건(카테고리/가격대/타임딜/베스트)만 남긴 키
+     * (검색어/정렬/커서/크기가 달라도 같은 상품 변경에 함께 무효화되는 캐시 키 묶음)
+     */
+    public ProductQuery filterKey() {
+        return new ProductQuery(category, null, type, priceRange, null, null, 0);
+    }
+
+    /**
+     * 상품이 이 조건의 결과에 포함될 수 있는지 (카테고리/가격대/타임딜/베스트 조건만 확인)
+     */
+    public boolean mayContain(Product product) {
+        if (category != null && !category.equals(product.getCategory())) {
+            return false;
+        }
+        if (priceRange != null && PriceRange.of(product.getPrice()) != priceRange) {
+            return false;
+        }
+        if ("timedeal".equals(type) && !product.isTimeDeal()) {
+            return false;
+        }
+        return !"best".equals(type) || product.isBest();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ProductQuery)) {
+            return false;
+        }
+        ProductQuery other = (ProductQuery) o;
+        return limit == other.limit
+                && Objects.equals(category, other.category)
+                && Objects.equals(search, other.search)
+                && Objects.equals(type, other.type)
+                && priceRange == other.priceRange
+                && sort == other.sort
+                && Objects.equals(after, other.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(category, search, type, priceRange, sort, after, limit);
+    }
+}
@@ -0,0 +1,229 @@
+/**
+ * 상품 대량 적재기 (insert_products.sql 대체)
+ * - CSV/NDJSON 파일을 한 행씩 읽어 PostgreSQL COPY 프로토콜로 임시 스테이징 테이블에 스트리밍
+ *   (Product는 IDENTITY 키라 Hibernate 배치 INSERT가 동작하지 않으므로 JPA를 거치지 않음)
+ * - 스테이징 → products는 SKU 기준 (같은 SKU가 여러 번 나오면 마지막 행)
+ *   INSERT_ONLY: 새 SKU만 추가 (ON CONFLICT DO NOTHING) - 기동 시 적재 기본값, 여러 번 실행해도 기존 상품을 건드리지 않음
+ *   UPSERT: 기존 SKU도 갱신 - 상품 정보(이름/가격/이미지/카테고리)는 파일 값으로, 애플리케이션이 관리하는 상태
+ *   (재고, 베스트 순위, 타임딜 여부/종료 시각)는 파일에 값이 있을 때만 덮어씀
+ * - SKU 도입 전부터 있던 상품(sku가 null)은 먼저 같은 이름의 파일 행 SKU를 부여한 뒤 적재
+ *   (부여하지 않으면 ON CONFLICT가 기존 행과 맞지 않아 첫 적재 때 카탈로그 전체가 한 벌 더 삽입됨)
+ * - 전체가 트랜잭션 하나라 실패하면 아무것도 반영되지 않음
+ * - 커밋 후 카탈로그를 한 번만 재동기화 (카탈로그 버전도 한 번만 증가, 다른 인스턴스도 재동기화)
+ * - 타임딜 종료 시각이 없는 타임딜 상품은 적재 시각 + catalog.import.time-deal-duration
+ */
+package com.clone.backend.catalog;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+public class CatalogBulkLoader {
+
+    private static final String STAGING_DDL = "create temp table products_import ("
+            + "seq bigint, sku text, name text, price int, original_price int, discount_rate int, image_url text, "
+            + "category text, is_time_deal boolean, time_deal_end_time timestamp, is_best boolean, rank int, "
+            + "stock_quantity int) on commit drop";
+
+    private static final String COPY_SQL = "copy products_import from stdin with (format csv)";
+
+    private static final String LATEST_ROWS = "(select distinct on (sku) * from products_import "
+            + "order by sku, seq desc)";
+
+    // 이름마다 파일의 마지막 행 SKU를, 같은 이름의 SKU 없는 기존 상품 중 ID가 가장 작은 하나에 부여
+    // (이미 다른 상품이 쓰는 SKU는 건너뜀)
+    private static final String BACKFILL_SQL = "update products p set sku = i.sku "
+            + "from (select distinct on (name) name, sku from " + LATEST_ROWS + " l order by name, seq desc) i "
+            + "where p.sku is null and p.name = i.name "
+            + "and p.id = (select min(q.id) from products q where q.sku is null and q.name = p.name) "
+            + "and not exists (select 1 from products q where q.sku = i.sku)";
+
+    private static final String INSERT_SQL = "insert into products (sku, name, price, original_price, "
+            + "discount_rate, image_url, category, is_time_deal, time_deal_end_time, is_best, rank, stock_quantity, "
+            + "updated_at) "
+            + "select sku, name, coalesce(price, 0), coalesce(original_price, coalesce(price, 0)), "
+            + "coalesce(discount_rate, 0), image_url, category, coalesce(is_time_deal, false), "
+            + "case when coalesce(is_time_deal, false) then coalesce(time_deal_end_time, ?) end, "
+            + "coalesce(is_best, false), rank, coalesce(stock_quantity, 0), ? "
+            + "from " + LATEST_ROWS + " i "
+            + "on conflict (sku) do nothing";
+
+    // 빈 값(null)인 열은 기존 값 유지, 타임딜을 켜면서 종료 시각이 없으면 기존 종료 시각(없으면 적재 시각 + 기간)
+    private static final String UPDATE_SQL = "update products p set name = coalesce(i.name, p.name), "
+            + "price = coalesce(i.price, p.price), original_price = coalesce(i.original_price, p.original_price), "
+            + "discount_rate = coalesce(i.discount_rate, p.discount_rate), "
+            + "image_url = coalesce(i.image_url, p.image_url), category = coalesce(i.category, p.category), "
+            + "is_time_deal = coalesce(i.is_time_deal, p.is_time_deal), "
+            + "time_deal_end_time = case when i.is_time_deal is null then p.time_deal_end_time "
+            + "when i.is_time_deal then coalesce(i.time_deal_end_time, p.time_deal_end_time, ?) end, "
+            + "is_best = coalesce(i.is_best, p.is_best), "
+            + "rank = case when i.is_best is null then p.rank else i.rank end, "
+            + "stock_quantity = coalesce(i.stock_quantity, p.stock_quantity), updated_at = ? "
+            + "from " + LATEST_ROWS + " i where p.sku = i.sku";
+
+    // COPY 스트림에 한 번에 넘기는 크기
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    public enum Mode {
+        INSERT_ONLY, UPSERT
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogBulkLoader.class);
+
+    private final DataSource dataSource;
+    private final CatalogChangeFeed catalogChangeFeed;
+    private final Duration timeDealDuration;
+    private final long progressInterval;
+
+    public CatalogBulkLoader(DataSource dataSource, CatalogChangeFeed catalogChangeFeed,
+            @Value("${catalog.import.time-deal-duration:24h}") Duration timeDealDuration,
+            @Value("${catalog.import.progress-interval:100000}") long progressInterval) {
+        if (progressInterval <= 0) {
+            throw new IllegalArgumentException("catalog.import.progress-interval must be positive: "
+                    + progressInterval);
+        }
+        this.dataSource = dataSource;
+        this.catalogChangeFeed = catalogChangeFeed;
+        this.timeDealDuration = timeDealDuration;
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * 파일 적재 (형식은 확장자로 결정)
+     * @return 반영된(삽입 + 갱신) 상품 수
+     */
+    public int load(Path path, Mode mode) throws IOException, SQLException {
+        CatalogRecordReader.Format format = CatalogRecordReader.Format.of(path.getFileName().toString());
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return load(reader, format, mode);
+        }
+    }
+
+    public int load(Reader source, CatalogRecordReader.Format format, Mode mode) throws IOException, SQLException {
+        long startedAt = System.nanoTime();
+        int upserted;
+        long records;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (CatalogRecordReader reader = new CatalogRecordReader(source, format)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(STAGING_DDL);
+                }
+                records = copy(connection, reader, startedAt);
+
+                int backfilled;
+                try (Statement statement = connection.createStatement()) {
+                    backfilled = statement.executeUpdate(BACKFILL_SQL);
+                }
+                if (backfilled > 0) {
+                    log.info("Catalog import: assigned SKUs to {} existing products by name", backfilled);
+                }
+
+                LocalDateTime now = LocalDateTime.now();
+                upserted = 0;
+                if (mode == Mode.UPSERT) {
+                    upserted += execute(connection, UPDATE_SQL, now);
+                }
+                upserted += execute(connection, INSERT_SQL, now);
+                connection.commit();
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Catalog import ({}) finished: {} records, {} products written in {} ms", mode, records, upserted,
+                elapsedMs);
+        catalogChangeFeed.publishReload();
+        return upserted;
+    }
+
+    // 두 문장 모두 파라미터는 (타임딜 기본 종료 시각, updated_at)
+    private int execute(Connection connection, String sql, LocalDateTime now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setTimestamp(1, Timestamp.valueOf(now.plus(timeDealDuration)));
+            statement.setTimestamp(2, Timestamp.valueOf(now));
+            return statement.executeUpdate();
+        }
+    }
+
+    private long copy(Connection connection, CatalogRecordReader reader, long startedAt)
+            throws IOException, SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            StringBuilder chunk = new StringBuilder(CHUNK_BYTES + 4096);
+            String[] values;
+            while ((values = reader.next()) != null) {
+                long seq = reader.getRecordNumber();
+                appendRow(chunk, seq, values);
+                if (chunk.length() >= CHUNK_BYTES) {
+                    write(copyIn, chunk);
+                }
+                if (seq % progressInterval == 0) {
+                    long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+                    log.info("Catalog import: {} records streamed ({} records/s)", seq, seq * 1000 / elapsedMs);
+                }
+            }
+            write(copyIn, chunk);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder chunk) throws SQLException {
+        if (chunk.length() == 0) {
+            return;
+        }
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    /**
+     * COPY CSV 한 행 (null은 따옴표 없는 빈 값, 나머지는 항상 따옴표로 감싸 빈 문자열과 구분)
+     */
+    static void appendRow(StringBuilder out, long seq, String[] values) {
+        out.append(seq);
+        for (String value : values) {
+            out.append(',');
+            if (value == null) {
+                continue;
+            }
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    out.append('"');
+                }
+                out.append(c);
+            }
+            out.append('"');
+        }
+        out.append('\n');
+    }
+}
@@ -0,0 +1,298 @@
+/**
+ * 카탈로그 변경 피드
+ * - 기동 시 상품 전체를 한 번만 읽어 등록된 CatalogIndex 구독자들을 구성
+ * - 이후에는 변경분(INSERT/UPDATE/DELETE)만 구독자에 전달하여 O(변경 건수)로 갱신
+ * - 변경 출처
+ *   1) ProductEntityListener: 애플리케이션 내 JPA 저장/삭제
+ *   2) updated_at 워터마크 폴링: psql 등 애플리케이션 밖에서 변경된 행
+ *   3) Redis pub/sub(catalog:changes): 다른 백엔드 인스턴스에서 발생한 변경
+ * - 외부 삭제는 updated_at으로 알 수 없으므로 상품 수가 어긋나면 전체 재동기화
+ * - 상품별로 마지막으로 반영한 updated_at을 기억해, 폴링 겹침 구간이나 재발행으로 같은 버전이 다시 오면 건너뜀
+ *   (변경 없는 폴링은 인덱스 갱신/CatalogChangedEvent 없이 끝남 - 카탈로그 버전/목록 캐시 유지)
+ *   다른 인스턴스에서 온 변경도 같은 기준으로 확인하여 늦게 도착한 이전 버전이 최신 반영을 덮지 않음
+ * - 반영과 전체 재동기화는 하나의 잠금으로 직렬화 (요청 스레드, 스케줄러, Redis 리스너 스레드)
+ *   버전 확인과 구독자 반영이 한 단계로 수행되어 같은 상품의 두 반영이 인덱스마다 다른 순서로 적용되지 않음
+ * - 구독자 반영이 끝나면 CatalogChangedEvent 발행 (파생 캐시 무효화용)
+ *   반영 전 읽기 모델의 상품과 비교해 재고만 바뀐 변경이면 stockOnly로 표시
+ * - DB 조회는 읽기 전용이 아닌 트랜잭션에서 수행하여 읽기 replica가 있어도 primary에서 읽음
+ *   (방금 커밋한 변경을 복제 지연 없이 반영)
+ */
+package com.clone.backend.catalog;
+
+import com.clone.backend.model.Product;
+import com.clone.backend.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class CatalogChangeFeed {
+
+    public static final String CHANNEL = "catalog:changes";
+
+    // 폴링 사이에 커밋된 긴 트랜잭션을 놓치지 않도록 워터마크를 겹쳐서 조회 (upsert는 멱등)
+    private static final Duration WATERMARK_OVERLAP = Duration.ofSeconds(5);
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogChangeFeed.class);
+
+    private final ProductRepository productRepository;
+    private final List<CatalogIndex> indexes;
+    private final CatalogReadModel readModel;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // updated_at이 없는 상품의 반영 버전 (ConcurrentHashMap은 null 값을 허용하지 않음)
+    private static final LocalDateTime UNVERSIONED = LocalDateTime.MIN;
+
+    // 상품 ID -> 마지막으로 반영한 updated_at
+    private final Map<Long, LocalDateTime> appliedVersions = new ConcurrentHashMap<>();
+    // 반영/재동기화/워터마크 갱신 직렬화
+    private final Object applyLock = new Object();
+    private volatile LocalDateTime watermark;
+    private volatile boolean initialized;
+
+    public CatalogChangeFeed(ProductRepository productRepository, List<CatalogIndex> indexes,
+            CatalogReadModel readModel, StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer, ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate) {
+        this.productRepository = productRepository;
+        this.indexes = indexes;
+        this.readModel = readModel;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onRemoteMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+        initialized = true;
+    }
+
+    /**
+     * 애플리케이션에서 발생한 변경 발행 (로컬 반영 + 다른 인스턴스로 전파)
+     */
+    public void publish(ProductChange.Type type, Product product) {
+        ProductChange change = new ProductChange(type, product.getId(),
+                type == ProductChange.Type.DELETE ? null : product, instanceId);
+        apply(change);
+        broadcast(change);
+    }
+
+    /**
+     * JPA 엔티티 리스너를 거치지 않는 벌크 UPDATE 이후 호출 (변경된 행을 다시 읽어 발행)
+     */
+    public void publishUpdated(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<Product> products = transactionTemplate.execute(status -> productRepository.findAllById(productIds));
+        for (Product product : products) {
+            ProductChange change = new ProductChange(ProductChange.Type.UPDATE, product.getId(), product, instanceId);
+            if (apply(change)) {
+                broadcast(change);
+            }
+            advanceWatermark(product.getUpdatedAt());
+        }
+    }
+
+    /**
+     * CatalogBulkLoader 적재 이후 호출 (로컬 재동기화 + 다른 인스턴스에 재동기화 요청)
+     * 기동 전 적재라면 로컬은 초기화 시 어차피 전체를 읽으므로 생략
+     */
+    public void publishReload() {
+        if (initialized) {
+            reload();
+        }
+        broadcast(new ProductChange(ProductChange.Type.RELOAD, null, null, instanceId));
+    }
+
+    /**
+     * 애플리케이션 밖에서 변경된 행 폴링 (updated_at 워터마크)
+     */
+    @Scheduled(fixedDelayString = "${catalog.feed.poll-interval-ms:30000}")
+    public void pollExternalChanges() {
+        if (!initialized) {
+            return;
+        }
+
+        LocalDateTime since = watermark.minus(WATERMARK_OVERLAP);
+        List<Product> changed = transactionTemplate.execute(status -> productRepository.findByUpdatedAtAfter(since));
+        for (Product product : changed) {
+            apply(new ProductChange(ProductChange.Type.UPDATE, product.getId(), product, instanceId));
+            advanceWatermark(product.getUpdatedAt());
+        }
+
+        // updated_at으로는 외부 삭제를 알 수 없으므로 상품 수가 다르면 전체 재동기화
+        long count = transactionTemplate.execute(status -> productRepository.count());
+        if (count != appliedVersions.size()) {
+            log.info("Catalog size mismatch (db={}, indexed={}), reloading", count, appliedVersions.size());
+            reload();
+        }
+    }
+
+    /**
+     * 전체 재동기화
+     * 조회부터 잠금 안에서 수행하여, 조회 이후 반영된 변경을 이전 스냅샷으로 덮지 않음
+     */
+    public void reload() {
+        synchronized (applyLock) {
+            reloadLocked();
+        }
+    }
+
+    private void reloadLocked() {
+        List<Product> products = transactionTemplate.execute(status -> productRepository.findAll());
+        LocalDateTime latest = null;
+        for (Product product : products) {
+            if (product.getUpdatedAt() != null && (latest == null || product.getUpdatedAt().isAfter(latest))) {
+                latest = product.getUpdatedAt();
+            }
+        }
+
+        appliedVersions.clear();
+        products.forEach(product -> appliedVersions.put(product.getId(), versionOf(product)));
+        for (CatalogIndex index : indexes) {
+            try {
+                index.rebuild(products);
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild {}", index.getClass().getSimpleName(), e);
+            }
+        }
+        watermark = latest != null ? latest : LocalDateTime.now();
+        eventPublisher.publishEvent(new CatalogChangedEvent(null));
+        log.info("Catalog loaded: {} products, {} indexes", products.size(), indexes.size());
+    }
+
+    /**
+     * 변경 반영 (INSERT/UPDATE는 이미 같은 버전 이상을 반영했으면 건너뛰고 false 반환)
+     */
+    private boolean apply(ProductChange change) {
+        synchronized (applyLock) {
+            if (change.getType() != ProductChange.Type.DELETE && isApplied(change.getProduct())) {
+                return false;
+            }
+            applyLocked(change);
+            return true;
+        }
+    }
+
+    private void applyLocked(ProductChange change) {
+        // 읽기 모델도 구독자이므로 반영 전에 이전 상태를 읽어 둠
+        Product previous = change.getType() == ProductChange.Type.UPDATE
+                ? readModel.findById(change.getProductId()).orElse(null)
+                : null;
+        boolean stockOnly = previous != null && isStockOnlyChange(previous, change.getProduct());
+
+        if (change.getType() == ProductChange.Type.DELETE) {
+            appliedVersions.remove(change.getProductId());
+        } else {
+            appliedVersions.put(change.getProductId(), versionOf(change.getProduct()));
+        }
+
+        for (CatalogIndex index : indexes) {
+            try {
+                if (change.getType() == ProductChange.Type.DELETE) {
+                    index.remove(change.getProductId());
+                } else {
+                    index.upsert(change.getProduct());
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to apply {} of product {} to {}", change.getType(), change.getProductId(),
+                        index.getClass().getSimpleName(), e);
+            }
+        }
+        eventPublisher.publishEvent(new CatalogChangedEvent(change, stockOnly));
+    }
+
+    private void broadcast(ProductChange change) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(change));
+        } catch (Exception e) {
+            // 다른 인스턴스는 워터마크 폴링으로 결국 수렴하므로 요청은 실패시키지 않음
+            log.warn("Failed to broadcast catalog {} of product {}", change.getType(), change.getProductId(), e);
+        }
+    }
+
+    private void onRemoteMessage(String payload) {
+        if (!initialized) {
+            return;
+        }
+        try {
+            ProductChange change = objectMapper.readValue(payload, ProductChange.class);
+            if (instanceId.equals(change.getOrigin())) {
+                return;
+            }
+            if (change.getType() == ProductChange.Type.RELOAD) {
+                reload();
+            } else {
+                apply(change);
+            }
+        } catch (Exception e) {
+            log.warn("Ignoring malformed catalog change message", e);
+        }
+    }
+
+    /**
+     * 이 updated_at 버전(또는 더 최신)을 이미 반영했는지 (updated_at이 없으면 항상 반영, applyLock 안에서 호출)
+     */
+    private boolean isApplied(Product product) {
+        LocalDateTime applied = appliedVersions.get(product.getId());
+        LocalDateTime updatedAt = product.getUpdatedAt();
+        return applied != null && !UNVERSIONED.equals(applied) && updatedAt != null && !updatedAt.isAfter(applied);
+    }
+
+    /**
+     * 재고 외의 상품 필드(목록 필터/정렬/응답에 쓰이는 값)가 모두 같은지 (updated_at은 비교하지 않음)
+     */
+    static boolean isStockOnlyChange(Product before, Product after) {
+        return before.getPrice() == after.getPrice()
+                && before.getOriginalPrice() == after.getOriginalPrice()
+                && before.getDiscountRate() == after.getDiscountRate()
+                && before.isTimeDeal() == after.isTimeDeal()
+                && before.isBest() == after.isBest()
+                && Objects.equals(before.getName(), after.getName())
+                && Objects.equals(before.getImageUrl(), after.getImageUrl())
+                && Objects.equals(before.getCategory(), after.getCategory())
+                && Objects.equals(before.getTimeDealEndTime(), after.getTimeDealEndTime())
+                && Objects.equals(before.getRank(), after.getRank());
+    }
+
+    private static LocalDateTime versionOf(Product product) {
+        return product.getUpdatedAt() != null ? product.getUpdatedAt() : UNVERSIONED;
+    }
+
+    private void advanceWatermark(LocalDateTime updatedAt) {
+        synchronized (applyLock) {
+            if (updatedAt != null && updatedAt.isAfter(watermark)) {
+                watermark = updatedAt;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * 카탈로그 변경 반영 완료 이벤트
+ * - CatalogChangeFeed가 모든 CatalogIndex에 변경을 반영한 뒤 스프링 이벤트로 발행
+ * - 인덱스 조회 결과를 캐시하는 구성요소는 이 이벤트로 무효화
+ *   (인덱스 갱신 전에 무효화하면 그 사이 요청이 이전 결과를 다시 캐시할 수 있음)
+ * - change가 null이면 전체 재동기화
+ * - stockOnly: 재고(와 updated_at)만 바뀐 변경 - 목록 구성/정렬에 쓰이지 않으므로 목록 캐시 무효화와
+ *   카탈로그 버전 증가를 미룰 수 있음 (재고 반영기가 초마다 발행하는 변경이 파생 캐시를 비우지 않도록)
+ */
+package com.clone.backend.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CatalogChangedEvent {
+
+    private final ProductChange change;
+    private final boolean stockOnly;
+
+    public CatalogChangedEvent(ProductChange change) {
+        this(change, false);
+    }
+
+    public boolean isReload() {
+        return change == null;
+    }
+}
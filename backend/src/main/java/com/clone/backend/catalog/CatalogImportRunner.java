@@ -0,0 +1,38 @@
+/**
+ * 기동 시 상품 파일 적재
+ * - catalog.import.path가 설정된 경우에만 동작 (예: data/products.csv)
+ * - 기본은 catalog.import.mode=insert-only: 재기동마다 실행돼도 새 SKU만 추가하고 기존 상품의 재고/베스트 순위/타임딜 상태는 유지
+ *   (파일 내용으로 기존 상품을 갱신하려면 upsert로 한 번 실행)
+ * - ApplicationReadyEvent 이전에 실행되므로 카탈로그 초기 로딩은 적재 결과로 한 번만 수행
+ * - 적재 실패 시 기동을 중단 (부분 적재는 트랜잭션 롤백으로 남지 않음)
+ */
+package com.clone.backend.catalog;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+@Component
+@ConditionalOnProperty(name = "catalog.import.path")
+public class CatalogImportRunner implements ApplicationRunner {
+
+    private final CatalogBulkLoader catalogBulkLoader;
+    private final Path path;
+    private final CatalogBulkLoader.Mode mode;
+
+    public CatalogImportRunner(CatalogBulkLoader catalogBulkLoader, @Value("${catalog.import.path}") Path path,
+            @Value("${catalog.import.mode:insert-only}") String mode) {
+        this.catalogBulkLoader = catalogBulkLoader;
+        this.path = path;
+        this.mode = CatalogBulkLoader.Mode.valueOf(mode.trim().toUpperCase().replace('-', '_'));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        catalogBulkLoader.load(path, mode);
+    }
+}
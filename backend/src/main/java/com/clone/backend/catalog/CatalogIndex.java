@@ -0,0 +1,28 @@
+/**
+ * 카탈로그 변경 피드 구독자 (In-memory 상품 인덱스)
+ * - CatalogChangeFeed가 기동 시 전체 상품으로 rebuild() 후, 변경분만 upsert()/remove()로 전달
+ * - 구현체는 스프링 빈으로 등록하면 자동으로 구독됨
+ */
+package com.clone.backend.catalog;
+
+import com.clone.backend.model.Product;
+
+import java.util.Collection;
+
+public interface CatalogIndex {
+
+    /**
+     * 전체 상품으로 재구성 (최초 기동, 외부 삭제 감지 등 전체 동기화 시)
+     */
+    void rebuild(Collection<Product> products);
+
+    /**
+     * 상품 추가 또는 변경 반영
+     */
+    void upsert(Product product);
+
+    /**
+     * 상품 삭제 반영
+     */
+    void remove(Long productId);
+}
@@ -0,0 +1,89 @@
+/**
+ * 상품 읽기 모델 (In-memory 카탈로그 스냅샷)
+ * - 상품 목록/상세 조회를 Hibernate 엔티티 대신 불변 CatalogSnapshot에서 제공
+ * - 스냅샷은 volatile 참조로 원자적으로 교체되므로 읽기는 잠금 없이 수행
+ * - 변경 피드의 변경은 즉시 오버레이로 반영하고, 주기적으로(또는 오버레이가 커지면) 열 배열로 압축
+ * - 최초 로딩 전에는 isLoaded()가 false이며 호출 측은 DB 조회로 대체
+ */
+package com.clone.backend.catalog;
+
+import com.clone.backend.model.Product;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class CatalogReadModel implements CatalogIndex {
+
+    // 오버레이가 이보다 커지면 주기를 기다리지 않고 바로 압축 (변경마다 오버레이 복사 비용 제한)
+    private static final int MAX_OVERLAY_SIZE = 4096;
+
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.EMPTY;
+    private volatile boolean loaded;
+
+    @Override
+    public synchronized void rebuild(Collection<Product> products) {
+        snapshot = CatalogSnapshot.build(products);
+        loaded = true;
+    }
+
+    @Override
+    public synchronized void upsert(Product product) {
+        CatalogSnapshot next = snapshot.with(product);
+        snapshot = next.overlaySize() > MAX_OVERLAY_SIZE ? next.compact() : next;
+    }
+
+    @Override
+    public synchronized void remove(Long productId) {
+        CatalogSnapshot next = snapshot.without(productId);
+        snapshot = next.overlaySize() > MAX_OVERLAY_SIZE ? next.compact() : next;
+    }
+
+    /**
+     * 주기적 압축 (잠금 밖에서 새 스냅샷을 만들고, 그 사이 변경이 없을 때만 교체)
+     */
+    @Scheduled(fixedDelayString = "${catalog.snapshot.compact-interval-ms:5000}")
+    public void compact() {
+        CatalogSnapshot current = snapshot;
+        if (current.overlaySize() == 0) {
+            return;
+        }
+        CatalogSnapshot compacted = current.compact();
+        synchronized (this) {
+            if (snapshot == current) {
+                snapshot = compacted;
+            }
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public CatalogSnapshot current() {
+        return snapshot;
+    }
+
+    public Optional<Product> findById(long productId) {
+        return Optional.ofNullable(snapshot.get(productId));
+    }
+
+    /**
+     * 주어진 ID 순서대로 상품 조회 (없는 상품은 제외)
+     */
+    public List<Product> findAll(List<Long> productIds) {
+        CatalogSnapshot current = snapshot;
+        List<Product> products = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            Product product = current.get(productId);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+}
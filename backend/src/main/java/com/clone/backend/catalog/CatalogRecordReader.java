@@ -0,0 +1,256 @@
+/**
+ * 상품 대량 적재용 스트리밍 레코드 리더 (CSV / NDJSON)
+ * - 파일 전체를 메모리에 올리지 않고 한 행씩 읽어 COLUMNS 순서의 문자열 배열로 반환
+ * - CSV: 첫 행은 헤더, RFC 4180 따옴표 규칙 (따옴표 안의 쉼표/줄바꿈, "" 이스케이프)
+ * - NDJSON: 한 줄에 JSON 객체 하나 (빈 줄은 무시)
+ * - 열 이름은 snake_case/camelCase 모두 허용 (original_price, originalPrice)
+ * - 숫자/불리언/시각은 여기서 검증하고 정규화하여 DB 적재 단계에서 형식 오류가 나지 않도록 함
+ */
+package com.clone.backend.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class CatalogRecordReader implements Closeable {
+
+    /** products 테이블 적재 열 (반환 배열의 순서) */
+    public static final List<String> COLUMNS = List.of("sku", "name", "price", "original_price", "discount_rate",
+            "image_url", "category", "is_time_deal", "time_deal_end_time", "is_best", "rank", "stock_quantity");
+
+    private static final int SKU = 0;
+    private static final int NAME = 1;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * 파일 확장자로 형식 결정 (.csv, .ndjson/.jsonl)
+         */
+        public static Format of(String fileName) {
+            String lower = fileName.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".csv")) {
+                return CSV;
+            }
+            if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported catalog file: " + fileName);
+        }
+    }
+
+    private enum Type {
+        TEXT, INT, BOOLEAN, TIMESTAMP
+    }
+
+    private static final Type[] TYPES = { Type.TEXT, Type.TEXT, Type.INT, Type.INT, Type.INT, Type.TEXT, Type.TEXT,
+            Type.BOOLEAN, Type.TIMESTAMP, Type.BOOLEAN, Type.INT, Type.INT };
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private final Format format;
+    private int[] csvColumns;
+    private long lineNumber;
+    private long recordNumber;
+
+    public CatalogRecordReader(Reader reader, Format format) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 1 << 16);
+        this.format = format;
+    }
+
+    /**
+     * 다음 레코드 (값이 없는 열은 null), 파일 끝이면 null
+     * @throws IllegalArgumentException 형식이 잘못된 행 (줄 번호 포함)
+     */
+    public String[] next() throws IOException {
+        return format == Format.CSV ? nextCsv() : nextJson();
+    }
+
+    /** 지금까지 읽은 레코드 수 */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String[] nextCsv() throws IOException {
+        if (csvColumns == null) {
+            List<String> header = readCsvRow();
+            if (header == null) {
+                return null;
+            }
+            csvColumns = new int[header.size()];
+            for (int i = 0; i < header.size(); i++) {
+                csvColumns[i] = columnIndex(header.get(i));
+            }
+        }
+
+        List<String> fields;
+        do {
+            fields = readCsvRow();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        String[] values = new String[COLUMNS.size()];
+        for (int i = 0; i < fields.size() && i < csvColumns.length; i++) {
+            if (csvColumns[i] >= 0) {
+                values[csvColumns[i]] = fields.get(i);
+            }
+        }
+        return normalize(values);
+    }
+
+    private String[] nextJson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": invalid JSON", e);
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": expected a JSON object");
+        }
+
+        String[] values = new String[COLUMNS.size()];
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            int column = columnIndex(field.getKey());
+            if (column >= 0 && !field.getValue().isNull()) {
+                values[column] = field.getValue().asText();
+            }
+        }
+        return normalize(values);
+    }
+
+    /**
+     * CSV 한 레코드 (따옴표 안의 줄바꿈은 같은 레코드), 파일 끝이면 null
+     */
+    private List<String> readCsvRow() throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>(COLUMNS.size());
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": unterminated quoted field");
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c < 0) {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String[] normalize(String[] values) {
+        recordNumber++;
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i] != null ? values[i].trim() : null;
+            values[i] = value == null || value.isEmpty() ? null : convert(value, TYPES[i], i);
+        }
+        if (values[SKU] == null || values[NAME] == null) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": sku and name are required");
+        }
+        return values;
+    }
+
+    private String convert(String value, Type type, int column) {
+        try {
+            switch (type) {
+                case INT:
+                    return String.valueOf(Integer.parseInt(value));
+                case BOOLEAN:
+                    return String.valueOf(parseBoolean(value));
+                case TIMESTAMP:
+                    return LocalDateTime.parse(value.replace(' ', 'T')).toString();
+                default:
+                    return value;
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException(
+                    "Line " + lineNumber + ": invalid " + COLUMNS.get(column) + " '" + value + "'", e);
+        }
+    }
+
+    private static boolean parseBoolean(String value) {
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "t", "1", "y", "yes":
+                return true;
+            case "false", "f", "0", "n", "no":
+                return false;
+            default:
+                throw new NumberFormatException("not a boolean");
+        }
+    }
+
+    // 열 이름 정규화 (대소문자, 밑줄 무시), 모르는 열은 -1
+    private static int columnIndex(String name) {
+        String key = name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+        if (key.equals("timedeal")) {
+            key = "istimedeal";
+        } else if (key.equals("best")) {
+            key = "isbest";
+        }
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (COLUMNS.get(i).replace("_", "").equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
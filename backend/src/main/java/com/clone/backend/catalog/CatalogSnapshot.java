@@ -0,0 +1,329 @@
+/**
+ * 불변 열 지향(columnar) 카탈로그 스냅샷
+ * - 상품 ID 오름차순으로 정렬된 기준 열: 가격/할인율/재고/순위는 int[], 카테고리는 사전 인코딩(short[] + 사전)
+ * - 상품명/이미지 URL은 구축 시 같은 문자열을 하나의 인스턴스로 공유
+ * - 기준 열 이후의 변경은 작은 오버레이(상품 ID -> 상품 사본, 삭제는 null)로 보관하여
+ *   변경마다 새 스냅샷을 O(오버레이 크기)로 만들고, compact()로 기준 열에 병합
+ * - 한 번 만들어진 스냅샷은 바뀌지 않으므로 읽기는 잠금 없이 수행
+ */
+package com.clone.backend.catalog;
+
+import com.clone.backend.model.Product;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class CatalogSnapshot {
+
+    public static final CatalogSnapshot EMPTY = build(Collections.emptyList());
+
+    private static final int NO_RANK = Integer.MIN_VALUE;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final short NO_CATEGORY = -1;
+    private static final byte TIME_DEAL = 1;
+    private static final byte BEST = 2;
+
+    // 기준 열 (ids 오름차순, 같은 인덱스가 한 상품)
+    private final long[] ids;
+    private final String[] names;
+    private final String[] imageUrls;
+    private final short[] categoryCodes;
+    private final String[] categoryDictionary;
+    private final int[] prices;
+    private final int[] originalPrices;
+    private final int[] discountRates;
+    private final int[] stockQuantities;
+    private final int[] ranks;
+    private final byte[] flags;
+    private final long[] timeDealEndTimes;
+
+    // 마지막 compact() 이후 변경분 (값이 null이면 삭제)
+    private final Map<Long, Product> overlay;
+    private final int size;
+
+    private CatalogSnapshot(Builder builder) {
+        int count = builder.count;
+        this.ids = Arrays.copyOf(builder.ids, count);
+        this.names = Arrays.copyOf(builder.names, count);
+        this.imageUrls = Arrays.copyOf(builder.imageUrls, count);
+        this.categoryCodes = Arrays.copyOf(builder.categoryCodes, count);
+        this.categoryDictionary = builder.dictionary.toArray(new String[0]);
+        this.prices = Arrays.copyOf(builder.prices, count);
+        this.originalPrices = Arrays.copyOf(builder.originalPrices, count);
+        this.discountRates = Arrays.copyOf(builder.discountRates, count);
+        this.stockQuantities = Arrays.copyOf(builder.stockQuantities, count);
+        this.ranks = Arrays.copyOf(builder.ranks, count);
+        this.flags = Arrays.copyOf(builder.flags, count);
+        this.timeDealEndTimes = Arrays.copyOf(builder.timeDealEndTimes, count);
+        this.overlay = Collections.emptyMap();
+        this.size = count;
+    }
+
+    private CatalogSnapshot(CatalogSnapshot base, Map<Long, Product> overlay, int size) {
+        this.ids = base.ids;
+        this.names = base.names;
+        this.imageUrls = base.imageUrls;
+        this.categoryCodes = base.categoryCodes;
+        this.categoryDictionary = base.categoryDictionary;
+        this.prices = base.prices;
+        this.originalPrices = base.originalPrices;
+        this.discountRates = base.discountRates;
+        this.stockQuantities = base.stockQuantities;
+        this.ranks = base.ranks;
+        this.flags = base.flags;
+        this.timeDealEndTimes = base.timeDealEndTimes;
+        this.overlay = Collections.unmodifiableMap(overlay);
+        this.size = size;
+    }
+
+    /**
+     * 전체 상품으로 스냅샷 구축
+     */
+    public static CatalogSnapshot build(Collection<Product> products) {
+        List<Product> sorted = new ArrayList<>(products);
+        sorted.sort(Comparator.comparing(Product::getId));
+        Builder builder = new Builder(sorted.size());
+        for (Product product : sorted) {
+            builder.add(product);
+        }
+        return new CatalogSnapshot(builder);
+    }
+
+    /**
+     * 상품 추가/변경을 반영한 새 스냅샷 (기준 열은 공유)
+     */
+    public CatalogSnapshot with(Product product) {
+        Map<Long, Product> next = new HashMap<>(overlay);
+        next.put(product.getId(), copy(product));
+        return new CatalogSnapshot(this, next, contains(product.getId()) ? size : size + 1);
+    }
+
+    /**
+     * 상품 삭제를 반영한 새 스냅샷 (기준 열은 공유)
+     */
+    public CatalogSnapshot without(long productId) {
+        if (!contains(productId)) {
+            return this;
+        }
+        Map<Long, Product> next = new HashMap<>(overlay);
+        if (indexOf(productId) >= 0) {
+            next.put(productId, null);
+        } else {
+            next.remove(productId);
+        }
+        return new CatalogSnapshot(this, next, size - 1);
+    }
+
+    /**
+     * 오버레이를 기준 열에 병합한 새 스냅샷 (기준 열과 오버레이를 ID 순으로 병합, O(n))
+     */
+    public CatalogSnapshot compact() {
+        if (overlay.isEmpty()) {
+            return this;
+        }
+
+        List<Product> changed = new ArrayList<>();
+        for (Product product : overlay.values()) {
+            if (product != null) {
+                changed.add(product);
+            }
+        }
+        changed.sort(Comparator.comparing(Product::getId));
+
+        Builder builder = new Builder(size);
+        int row = 0;
+        for (Product product : changed) {
+            for (; row < ids.length && ids[row] < product.getId(); row++) {
+                if (!overlay.containsKey(ids[row])) {
+                    builder.copy(this, row);
+                }
+            }
+            builder.add(product);
+        }
+        for (; row < ids.length; row++) {
+            if (!overlay.containsKey(ids[row])) {
+                builder.copy(this, row);
+            }
+        }
+        return new CatalogSnapshot(builder);
+    }
+
+    /**
+     * 상품 조회 (없으면 null, 호출마다 새 Product 인스턴스)
+     */
+    public Product get(long productId) {
+        if (overlay.containsKey(productId)) {
+            Product product = overlay.get(productId);
+            return product != null ? copy(product) : null;
+        }
+        int row = indexOf(productId);
+        return row >= 0 ? materialize(row) : null;
+    }
+
+    public boolean contains(long productId) {
+        if (overlay.containsKey(productId)) {
+            return overlay.get(productId) != null;
+        }
+        return indexOf(productId) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int overlaySize() {
+        return overlay.size();
+    }
+
+    private int indexOf(long productId) {
+        return Arrays.binarySearch(ids, productId);
+    }
+
+    private Product materialize(int row) {
+        return Product.builder()
+                .id(ids[row])
+                .name(names[row])
+                .price(prices[row])
+                .originalPrice(originalPrices[row])
+                .discountRate(discountRates[row])
+                .imageUrl(imageUrls[row])
+                .category(categoryCodes[row] == NO_CATEGORY ? null : categoryDictionary[categoryCodes[row]])
+                .isTimeDeal((flags[row] & TIME_DEAL) != 0)
+                .timeDealEndTime(toDateTime(timeDealEndTimes[row]))
+                .isBest((flags[row] & BEST) != 0)
+                .rank(ranks[row] == NO_RANK ? null : ranks[row])
+                .stockQuantity(stockQuantities[row])
+                .build();
+    }
+
+    /**
+     * 호출자가 받은 상품을 수정해도 스냅샷이 바뀌지 않도록 사본 사용
+     */
+    private static Product copy(Product product) {
+        return Product.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .originalPrice(product.getOriginalPrice())
+                .discountRate(product.getDiscountRate())
+                .imageUrl(product.getImageUrl())
+                .category(product.getCategory())
+                .isTimeDeal(product.isTimeDeal())
+                .timeDealEndTime(product.getTimeDealEndTime())
+                .isBest(product.isBest())
+                .rank(product.getRank())
+                .stockQuantity(product.getStockQuantity())
+                .build();
+    }
+
+    // LocalDateTime <-> epoch 마이크로초 (DB timestamp 정밀도)
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime toDateTime(long micros) {
+        if (micros == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 열 배열 구축기 (ID 오름차순으로 추가해야 함)
+     */
+    private static final class Builder {
+        private final long[] ids;
+        private final String[] names;
+        private final String[] imageUrls;
+        private final short[] categoryCodes;
+        private final int[] prices;
+        private final int[] originalPrices;
+        private final int[] discountRates;
+        private final int[] stockQuantities;
+        private final int[] ranks;
+        private final byte[] flags;
+        private final long[] timeDealEndTimes;
+        private int count;
+
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Short> categoryToCode = new HashMap<>();
+        private final Map<String, String> strings = new HashMap<>();
+
+        private Builder(int capacity) {
+            ids = new long[capacity];
+            names = new String[capacity];
+            imageUrls = new String[capacity];
+            categoryCodes = new short[capacity];
+            prices = new int[capacity];
+            originalPrices = new int[capacity];
+            discountRates = new int[capacity];
+            stockQuantities = new int[capacity];
+            ranks = new int[capacity];
+            flags = new byte[capacity];
+            timeDealEndTimes = new long[capacity];
+        }
+
+        private void add(Product product) {
+            int row = count++;
+            ids[row] = product.getId();
+            names[row] = share(product.getName());
+            imageUrls[row] = share(product.getImageUrl());
+            categoryCodes[row] = encode(product.getCategory());
+            prices[row] = product.getPrice();
+            originalPrices[row] = product.getOriginalPrice();
+            discountRates[row] = product.getDiscountRate();
+            stockQuantities[row] = product.getStockQuantity();
+            ranks[row] = product.getRank() != null ? product.getRank() : NO_RANK;
+            flags[row] = (byte) ((product.isTimeDeal() ? TIME_DEAL : 0) | (product.isBest() ? BEST : 0));
+            timeDealEndTimes[row] = product.getTimeDealEndTime() != null
+                    ? toMicros(product.getTimeDealEndTime())
+                    : NO_TIME;
+        }
+
+        // 기준 열 행 복사 (문자열은 이미 공유 중이므로 그대로 사용)
+        private void copy(CatalogSnapshot source, int sourceRow) {
+            int row = count++;
+            ids[row] = source.ids[sourceRow];
+            names[row] = source.names[sourceRow];
+            imageUrls[row] = source.imageUrls[sourceRow];
+            short code = source.categoryCodes[sourceRow];
+            categoryCodes[row] = code == NO_CATEGORY ? NO_CATEGORY : encode(source.categoryDictionary[code]);
+            prices[row] = source.prices[sourceRow];
+            originalPrices[row] = source.originalPrices[sourceRow];
+            discountRates[row] = source.discountRates[sourceRow];
+            stockQuantities[row] = source.stockQuantities[sourceRow];
+            ranks[row] = source.ranks[sourceRow];
+            flags[row] = source.flags[sourceRow];
+            timeDealEndTimes[row] = source.timeDealEndTimes[sourceRow];
+        }
+
+        private String share(String value) {
+            return value != null ? strings.computeIfAbsent(value, v -> v) : null;
+        }
+
+        private short encode(String category) {
+            if (category == null) {
+                return NO_CATEGORY;
+            }
+            Short code = categoryToCode.get(category);
+            if (code == null) {
+                if (dictionary.size() > Short.MAX_VALUE) {
+                    throw new IllegalStateException("Too many categories: " + dictionary.size());
+                }
+                code = (short) dictionary.size();
+                dictionary.add(category);
+                categoryToCode.put(category, code);
+            }
+            return code;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * 카탈로그 버전 (조건부 GET용)
+ * - 상품 변경이 모든 인덱스/스냅샷에 반영될 때마다(CatalogChangedEvent) 단조 증가
+ * - 버전과 변경 시각, 미리 만든 ETag 문자열을 불변 객체 하나로 묶어 교체하므로
+ *   요청마다 volatile 읽기 한 번으로 일관된 값을 얻음
+ * - ETag에는 인스턴스 기동 시각을 넣어 서로 다른 인스턴스의 같은 버전 번호가 섞이지 않게 함
+ * - 재고만 바뀐 변경(stockOnly)은 바로 올리지 않고 stock-interval마다 한 번으로 모아서 증가
+ *   (재고 반영기가 초마다 발행해도 ETag/JSON 캐시가 초마다 바뀌지 않음, 목록의 재고 수치는 그만큼 늦게 보임)
+ * - Last-Modified는 초 단위라 같은 초의 변경을 구분하지 못하므로 판정은 ETag(If-None-Match)가 우선
+ */
+package com.clone.backend.catalog;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class CatalogVersion {
+
+    private final String instanceTag = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicReference<Stamp> current = new AtomicReference<>(stamp(0, System.currentTimeMillis()));
+    private final AtomicBoolean pendingStockChange = new AtomicBoolean();
+
+    /**
+     * 인덱스 반영이 끝난 뒤 버전 증가
+     * (반영 전에 올리면 그 사이 요청이 이전 데이터에 새 ETag를 붙일 수 있음)
+     * 같은 이벤트로 무효화하는 파생 캐시(ProductListCache)보다 나중에 실행
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.isStockOnly()) {
+            pendingStockChange.set(true);
+            return;
+        }
+        // 이미 인덱스에 반영된 대기 중 재고 변경도 이번 증가에 포함됨
+        pendingStockChange.set(false);
+        bump();
+    }
+
+    /**
+     * 모아 둔 재고 변경을 버전 한 번 증가로 반영
+     */
+    @Scheduled(fixedDelayString = "${catalog.version.stock-interval-ms:30000}")
+    public void flushStockChanges() {
+        if (pendingStockChange.getAndSet(false)) {
+            bump();
+        }
+    }
+
+    /**
+     * 현재 버전 (응답 데이터를 읽기 전에 먼저 조회해야 함)
+     */
+    public Stamp current() {
+        return current.get();
+    }
+
+    private void bump() {
+        long now = System.currentTimeMillis();
+        current.updateAndGet(previous -> stamp(previous.getVersion() + 1, Math.max(now, previous.getLastModified())));
+    }
+
+    private Stamp stamp(long version, long lastModified) {
+        return new Stamp(version, lastModified, "\"" + instanceTag + "-" + Long.toString(version, 36) + "\"");
+    }
+
+    public static final class Stamp {
+        private final long version;
+        private final long lastModified;
+        private final String eTag;
+
+        private Stamp(long version, long lastModified, String eTag) {
+            this.version = version;
+            this.lastModified = lastModified;
+            this.eTag = eTag;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
+}
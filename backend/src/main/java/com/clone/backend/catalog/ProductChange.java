@@ -0,0 +1,27 @@
+/**
+ * 상품 변경 이벤트 (카탈로그 변경 피드 메시지)
+ * - INSERT/UPDATE는 변경 후 상품 스냅샷, DELETE는 상품 ID만 포함
+ * - RELOAD는 대량 적재 후 전체 재동기화 요청 (상품 정보 없음)
+ * - origin: 발행한 백엔드 인스턴스 ID (Redis pub/sub으로 받은 자기 메시지를 무시하기 위함)
+ */
+package com.clone.backend.catalog;
+
+import com.clone.backend.model.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductChange {
+
+    public enum Type {
+        INSERT, UPDATE, DELETE, RELOAD
+    }
+
+    private Type type;
+    private Long productId;
+    private Product product;
+    private String origin;
+}
@@ -0,0 +1,55 @@
+/**
+ * 상품 엔티티 JPA 리스너
+ * - Product 저장/수정/삭제를 CatalogChangeFeed로 전달
+ * - 트랜잭션 안에서 발생한 변경은 커밋 이후에만 발행 (롤백된 변경이 인덱스에 반영되지 않도록)
+ * - Hibernate가 스프링 빈으로 생성하므로 피드는 지연 조회 (EntityManagerFactory와의 순환 의존 방지)
+ */
+package com.clone.backend.catalog;
+
+import com.clone.backend.model.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ProductEntityListener {
+
+    private final ObjectProvider<CatalogChangeFeed> catalogChangeFeed;
+
+    public ProductEntityListener(ObjectProvider<CatalogChangeFeed> catalogChangeFeed) {
+        this.catalogChangeFeed = catalogChangeFeed;
+    }
+
+    @PostPersist
+    public void onInsert(Product product) {
+        publishAfterCommit(ProductChange.Type.INSERT, product);
+    }
+
+    @PostUpdate
+    public void onUpdate(Product product) {
+        publishAfterCommit(ProductChange.Type.UPDATE, product);
+    }
+
+    @PostRemove
+    public void onDelete(Product product) {
+        publishAfterCommit(ProductChange.Type.DELETE, product);
+    }
+
+    private void publishAfterCommit(ProductChange.Type type, Product product) {
+        Runnable publish = () -> catalogChangeFeed.getObject().publish(type, product);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+        } else {
+            publish.run();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * 상품 ID 조회 (단건/다건)
+ * - 상품별 캐시는 In-memory 카탈로그 스냅샷 (변경 피드로 항상 최신이라 별도 만료/무효화 없음)
+ * - 스냅샷 로딩 전에는 요청한 ID를 모아 findAllById 한 번으로 조회 (ID 개수와 관계없이 DB 왕복 1회)
+ * - 장바구니/주문/상세처럼 여러 상품을 한 번에 필요로 하는 곳은 getAll 사용
+ */
+package com.clone.backend.catalog;
+
+import com.clone.backend.model.Product;
+import com.clone.backend.repository.ProductRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+public class ProductLookup {
+
+    private final CatalogReadModel catalogReadModel;
+    private final ProductRepository productRepository;
+
+    public ProductLookup(CatalogReadModel catalogReadModel, ProductRepository productRepository) {
+        this.catalogReadModel = catalogReadModel;
+        this.productRepository = productRepository;
+    }
+
+    public Optional<Product> get(long productId) {
+        return catalogReadModel.isLoaded()
+                ? catalogReadModel.findById(productId)
+                : productRepository.findById(productId);
+    }
+
+    /**
+     * 요청 순서대로 상품 조회 (중복 ID는 한 번만, 없는 상품은 제외)
+     */
+    public List<Product> getAll(Collection<Long> productIds) {
+        Set<Long> distinct = new LinkedHashSet<>(productIds);
+        if (catalogReadModel.isLoaded()) {
+            return catalogReadModel.findAll(new ArrayList<>(distinct));
+        }
+
+        Map<Long, Product> found = new HashMap<>();
+        for (Product product : productRepository.findAllById(distinct)) {
+            found.put(product.getId(), product);
+        }
+        List<Product> products = new ArrayList<>(found.size());
+        for (Long productId : distinct) {
+            Product product = found.get(productId);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+}
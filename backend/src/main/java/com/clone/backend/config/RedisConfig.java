@@ -2,6 +2,7 @@
  * Redis 설정 클래스
  * - RedisTemplate 빈 설정
  * - Jackson JSON 직렬화 설정
+ * - Pub/Sub 메시지 리스너 컨테이너 (카탈로그 변경 전파)
  */
 package com.clone.backend.config;
 
@@ -9,6 +10,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,6 +26,24 @@ public class RedisConfig {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
+        GenericJackson2JsonRedisSerializer serializer = jsonSerializer();
+
+        // Key는 문자열로 직렬화
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+
+        // Value는 JSON으로 직렬화
+        template.setValueSerializer(serializer);
+        template.setHashValueSerializer(serializer);
+
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * 값 JSON 직렬화기 (장바구니 코덱의 이전 값 읽기, 벤치마크에서도 같은 설정으로 사용)
+     */
+    public static GenericJackson2JsonRedisSerializer jsonSerializer() {
         // ObjectMapper 설정 (Java 8 날짜/시간 모듈 등록)
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -35,17 +55,13 @@ public class RedisConfig {
                 JsonTypeInfo.As.PROPERTY);
 
         // Value Serializer에 ObjectMapper 적용
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-
-        // Key는 문자열로 직렬화
-        template.setKeySerializer(new StringRedisSerializer());
-        template.setHashKeySerializer(new StringRedisSerializer());
-
-        // Value는 JSON으로 직렬화
-        template.setValueSerializer(serializer);
-        template.setHashValueSerializer(serializer);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
-        template.afterPropertiesSet();
-        return template;
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
     }
 }
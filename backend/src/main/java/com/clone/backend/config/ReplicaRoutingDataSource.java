@@ -0,0 +1,141 @@
+/**
+ * 읽기/쓰기 분리 라우팅 DataSource
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true), Spring Data 조회 메서드 기본값)은 replica로,
+ *   그 외(쓰기 트랜잭션, 트랜잭션 밖 JDBC)는 primary로 보냄
+ * - replica가 여러 개면 순서대로 돌아가며 분배, 풀은 DB마다 따로 (replica 읽기가 결제 쓰기 커넥션을 점유하지 않음)
+ * - 주기적으로 replica 복제 지연을 측정해 max-lag를 넘거나 연결이 안 되면 제외 (전부 제외되면 primary로 읽음)
+ * - 트랜잭션 시작 시점에 읽기 전용 여부가 정해지도록 LazyConnectionDataSourceProxy로 감싸서 사용
+ * - 지표: datasource.replica.lag(초), datasource.replica.available(1/0), datasource.routing.fallback(건수)
+ */
+package com.clone.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    // replica가 아니거나 받은 WAL을 모두 재생했으면 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간
+    // (primary에 쓰기가 없을 때 지연이 계속 늘어나 보이지 않도록 LSN 비교를 먼저 함)
+    private static final String LAG_SQL = "select case when not pg_is_in_recovery() "
+            + "or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+            + "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools, Duration maxLag,
+            MeterRegistry meterRegistry) {
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : replicas) {
+            targets.put(replica.name, replica.pool);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        if (meterRegistry != null) {
+            for (Replica replica : replicas) {
+                Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                        .tag("replica", replica.name).baseUnit("seconds").register(meterRegistry);
+                Gauge.builder("datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                        .tag("replica", replica.name).register(meterRegistry);
+            }
+            fallbackCounter = Counter.builder("datasource.routing.fallback")
+                    .description("Read-only transactions sent to primary because no replica was available")
+                    .register(meterRegistry);
+        } else {
+            fallbackCounter = null;
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica.name;
+            }
+        }
+        if (fallbackCounter != null) {
+            fallbackCounter.increment();
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * replica 복제 지연 측정 (지연이 max-lag 이내인 replica만 읽기 대상으로 유지)
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void checkReplicationLag() {
+        for (Replica replica : replicas) {
+            boolean available;
+            try {
+                Double lag = new JdbcTemplate(replica.pool).queryForObject(LAG_SQL, Double.class);
+                replica.lagSeconds = lag != null ? lag : 0;
+                available = replica.lagSeconds * 1000 <= maxLag.toMillis();
+            } catch (RuntimeException e) {
+                replica.lagSeconds = Double.NaN;
+                available = false;
+                if (replica.available) {
+                    log.warn("Replica {} unreachable", replica.name, e);
+                }
+            }
+            if (available != replica.available) {
+                log.info("Replica {} {} (lag {}s)", replica.name,
+                        available ? "back in rotation" : "removed from rotation", replica.lagSeconds);
+                replica.available = available;
+            }
+        }
+    }
+
+    /**
+     * replica 풀 종료 (primary 풀은 별도 빈으로 종료)
+     */
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource pool;
+        // 첫 지연 측정 전까지는 제외 (기동 직후 지연이 큰 replica로 읽지 않도록)
+        private volatile boolean available;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(HikariDataSource pool) {
+            this.name = pool.getPoolName();
+            this.pool = pool;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * 타임딜 대기열 컨트롤러 (/api/admission)
+ * - POST /{productId}: 대기열 입장 또는 상태 확인
+ *   입장 가능하면 입장권(token) 반환, 아니면 대기 순번(position)과 다음 확인까지 대기 시간(retryAfterMs) 반환
+ * - 입장권은 재고 예약 요청의 X-Admission-Token 헤더로 전달 (타임딜 상품만 필요)
+ */
+package com.clone.backend.controller;
+
+import com.clone.backend.admission.AdmissionService;
+import com.clone.backend.admission.AdmissionStatus;
+import com.clone.backend.model.User;
+import com.clone.backend.repository.UserRepository;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admission")
+public class AdmissionController {
+
+    private final AdmissionService admissionService;
+    private final UserRepository userRepository;
+
+    public AdmissionController(AdmissionService admissionService, UserRepository userRepository) {
+        this.admissionService = admissionService;
+        this.userRepository = userRepository;
+    }
+
+    private User getCurrentUser() {
+        String email = null;
+        Object principal = org.springframework.security.core.context.SecurityContextHolder.getContext()
+                .getAuthentication().getPrincipal();
+        if (principal instanceof org.springframework.security.core.userdetails.UserDetails) {
+            email = ((org.springframework.security.core.userdetails.UserDetails) principal).getUsername();
+        } else {
+            email = principal.toString();
+        }
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    @PostMapping("/{productId}")
+    public ResponseEntity<AdmissionStatus> enter(@PathVariable long productId) {
+        return ResponseEntity.ok(admissionService.enter(getCurrentUser().getId(), productId));
+    }
+}
@@ -5,19 +5,23 @@
  * - PUT /{productId}: 수량 변경
  * - DELETE /{productId}: 특정 상품 삭제
  * - DELETE: 장바구니 전체 비우기
+ * - POST /batch: 담기/수량 변경/삭제 여러 건을 한 번에 (상품 다건 조회 1회 + Redis 파이프라인 1회), 결과 장바구니 반환
  * - 7일 보관 (Redis TTL)
  */
 package com.clone.backend.controller;
 
+import com.clone.backend.catalog.ProductLookup;
+import com.clone.backend.dto.CartBatchRequest;
 import com.clone.backend.model.Product;
 import com.clone.backend.model.RedisCartItem;
 import com.clone.backend.model.User;
-import com.clone.backend.repository.ProductRepository;
 import com.clone.backend.repository.RedisCartRepository;
 import com.clone.backend.repository.UserRepository;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,15 +29,17 @@ import java.util.Map;
 @RequestMapping("/api/cart")
 public class CartController {
 
+    private static final int MAX_BATCH_OPERATIONS = 100;
+
     private final RedisCartRepository redisCartRepository;
     private final UserRepository userRepository;
-    private final ProductRepository productRepository;
+    private final ProductLookup productLookup;
 
     public CartController(RedisCartRepository redisCartRepository, UserRepository userRepository,
-            ProductRepository productRepository) {
+            ProductLookup productLookup) {
         this.redisCartRepository = redisCartRepository;
         this.userRepository = userRepository;
-        this.productRepository = productRepository;
+        this.productLookup = productLookup;
     }
 
     private User getCurrentUser() {
@@ -61,20 +67,71 @@ public class CartController {
         Long productId = Long.valueOf(payload.get("productId").toString());
         int quantity = payload.containsKey("quantity") ? Integer.parseInt(payload.get("quantity").toString()) : 1;
 
-        Product product = productRepository.findById(productId)
+        Product product = productLookup.get(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
 
-        RedisCartItem item = RedisCartItem.builder()
-                .productId(product.getId())
-                .productName(product.getName())
-                .productImage(product.getImageUrl())
-                .price(product.getPrice())
-                .originalPrice(product.getOriginalPrice())
-                .discountRate(product.getDiscountRate())
-                .quantity(quantity)
-                .build();
+        return redisCartRepository.addItem(user.getId(), toCartItem(product, quantity));
+    }
+
+    /**
+     * 장바구니 일괄 변경 (재주문, 선택 삭제, 비로그인 장바구니 병합)
+     * 담을 상품은 한 번에 조회하고, 모든 변경은 Redis 왕복 한 번으로 적용
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> applyBatch(@RequestBody CartBatchRequest request) {
+        List<CartBatchRequest.Operation> operations = request.getOperations();
+        if (operations == null || operations.isEmpty() || operations.size() > MAX_BATCH_OPERATIONS) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Invalid number of operations"));
+        }
+
+        List<Long> addedIds = new ArrayList<>();
+        for (CartBatchRequest.Operation operation : operations) {
+            if (operation.getProductId() == null || operation.getOp() == null) {
+                return ResponseEntity.badRequest().body(Map.of("message", "op and productId are required"));
+            }
+            if ("add".equalsIgnoreCase(operation.getOp())) {
+                addedIds.add(operation.getProductId());
+            }
+        }
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productLookup.getAll(addedIds)) {
+            products.put(product.getId(), product);
+        }
+
+        List<RedisCartRepository.Mutation> mutations = new ArrayList<>(operations.size());
+        for (CartBatchRequest.Operation operation : operations) {
+            Long productId = operation.getProductId();
+            Integer quantity = operation.getQuantity();
+            switch (operation.getOp().toLowerCase()) {
+                case "add" -> {
+                    Product product = products.get(productId);
+                    if (product == null) {
+                        return ResponseEntity.status(404)
+                                .body(Map.of("message", "Product not found", "productId", productId));
+                    }
+                    int added = quantity != null ? quantity : 1;
+                    if (added <= 0) {
+                        return ResponseEntity.badRequest().body(Map.of("message", "Quantity must be positive"));
+                    }
+                    mutations.add(RedisCartRepository.Mutation.add(toCartItem(product, added)));
+                }
+                case "update" -> {
+                    if (quantity == null) {
+                        return ResponseEntity.badRequest().body(Map.of("message", "quantity is required"));
+                    }
+                    mutations.add(quantity > 0
+                            ? RedisCartRepository.Mutation.update(productId, quantity)
+                            : RedisCartRepository.Mutation.remove(productId));
+                }
+                case "remove" -> mutations.add(RedisCartRepository.Mutation.remove(productId));
+                default -> {
+                    return ResponseEntity.badRequest().body(Map.of("message", "Unknown op: " + operation.getOp()));
+                }
+            }
+        }
 
-        return redisCartRepository.addItem(user.getId(), item);
+        User user = getCurrentUser();
+        return ResponseEntity.ok(redisCartRepository.applyBatch(user.getId(), mutations));
     }
 
     @PutMapping("/{productId}")
@@ -107,6 +164,18 @@ public class CartController {
         return ResponseEntity.ok().build();
     }
 
+    private static RedisCartItem toCartItem(Product product, int quantity) {
+        return RedisCartItem.builder()
+                .productId(product.getId())
+                .productName(product.getName())
+                .productImage(product.getImageUrl())
+                .price(product.getPrice())
+                .originalPrice(product.getOriginalPrice())
+                .discountRate(product.getDiscountRate())
+                .quantity(quantity)
+                .build();
+    }
+
     @GetMapping("/ttl")
     public ResponseEntity<Map<String, Object>> getCartTTL() {
         User user = getCurrentUser();
@@ -2,6 +2,7 @@
  * 쿠폰 컨트롤러 (/api/coupons)
  * - GET: 사용자 보유 쿠폰 조회
  * - GET /available: 사용 가능한 쿠폰 조회 (주문 금액, 카테고리 기준)
+ * - 조회는 읽기 전용 트랜잭션 하나로 (읽기 replica가 있으면 replica 커넥션 하나로 처리)
  */
 package com.clone.backend.controller;
 
@@ -12,6 +13,7 @@ import com.clone.backend.repository.UserCouponRepository;
 import com.clone.backend.repository.UserRepository;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -38,6 +40,7 @@ public class CouponController {
      * 사용자 보유 쿠폰 조회
      */
     @GetMapping("/my")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<Map<String, Object>>> getMyCoupons(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             return ResponseEntity.status(401).build();
@@ -77,6 +80,7 @@ public class CouponController {
      * 주문에 사용 가능한 쿠폰 조회
      */
     @GetMapping("/available")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<Map<String, Object>>> getAvailableCoupons(
             Authentication authentication,
             @RequestParam Integer amount,
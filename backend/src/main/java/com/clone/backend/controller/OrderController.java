@@ -1,17 +1,29 @@
 /**
  * 주문 컨트롤러 (/api/orders)
  * - GET: 주문 내역 조회 (MongoDB에서 조회)
- * - POST /confirm-payment: Toss 결제 승인 처리
+ * - POST /reservations: 결제 전 주문 상품 재고 예약 (Redis, 재고 부족 시 409)
+ *   타임딜 상품은 대기열 입장권(X-Admission-Token 헤더)이 없으면 403
+ * - DELETE /reservations/{orderId}: 결제 실패/취소 시 재고 예약 해제
+ * - POST /confirm-payment: Toss 결제 승인 처리 (성공 시 재고 예약 확정, 실패 시 해제)
+ *   결제 대기 중 예약이 만료되어 회수됐고 그사이 재고가 팔렸으면 승인한 결제를 취소하고 409 (초과 판매 없음)
+ *   주문 상품은 Redis 장바구니를 원자적으로 꺼내 만들고, 가격은 상품 다건 조회 한 번으로 확인 (장바구니 크기와 무관한 왕복 수)
+ *   담은 뒤 가격이 바뀌었거나 판매가 끝난 상품이 있으면 결제 승인 전에 409로 중단 (장바구니는 현재 가격으로 복구)
  * - POST /demo: 데모 주문 생성 (테스트/포트폴리오용)
  * - DELETE /:orderId : 주문 내역 영구 삭제
  * - 주문 데이터는 MongoDB에 샤딩하여 저장
  */
 package com.clone.backend.controller;
 
+import com.clone.backend.admission.AdmissionService;
+import com.clone.backend.catalog.ProductLookup;
 import com.clone.backend.model.*;
 import com.clone.backend.repository.*;
+import com.clone.backend.stock.InsufficientStockException;
+import com.clone.backend.stock.StockReservationService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,24 +31,37 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    private static final Logger log = LoggerFactory.getLogger(OrderController.class);
+
     private final OrderRepository orderRepository;
-    private final CartRepository cartRepository;
+    private final RedisCartRepository redisCartRepository;
+    private final ProductLookup productLookup;
     private final UserRepository userRepository;
+    private final StockReservationService stockReservationService;
+    private final AdmissionService admissionService;
 
-    public OrderController(OrderRepository orderRepository, CartRepository cartRepository,
-            UserRepository userRepository) {
+    public OrderController(OrderRepository orderRepository, RedisCartRepository redisCartRepository,
+            ProductLookup productLookup, UserRepository userRepository,
+            StockReservationService stockReservationService, AdmissionService admissionService) {
         this.orderRepository = orderRepository;
-        this.cartRepository = cartRepository;
+        this.redisCartRepository = redisCartRepository;
+        this.productLookup = productLookup;
         this.userRepository = userRepository;
+        this.stockReservationService = stockReservationService;
+        this.admissionService = admissionService;
     }
 
     @Value("${toss.secret-key}")
@@ -65,6 +90,21 @@ public class OrderController {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        // 장바구니를 꺼내(조회 + 비우기 한 번에) 가격 확인 - 결제 화면의 금액과 다른 가격으로 승인하지 않도록 승인 전에 검사
+        List<RedisCartItem> cartItems = redisCartRepository.checkout(user.getId());
+        List<Long> changedProductIds = new ArrayList<>();
+        List<OrderItem> orderItems = toOrderItems(cartItems, changedProductIds);
+        if (!changedProductIds.isEmpty()) {
+            log.warn("Order {} rejected: prices changed since added to cart for products {}", orderId,
+                    changedProductIds);
+            restoreCart(user.getId(), cartItems);
+            stockReservationService.release(user.getId(), orderId);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("message", "장바구니에 담은 뒤 가격이 변경되었거나 판매가 종료된 상품이 있습니다.",
+                            "productIds", changedProductIds));
+        }
+
+        boolean orderSaved = false;
         // 1. Verify payment with Toss
         try {
             String secretKeyDetails = tossSecretKey + ":";
@@ -87,6 +127,21 @@ public class OrderController {
                     String.class);
 
             if (response.getStatusCode() == HttpStatus.OK) {
+                // 결제 전에 예약한 재고 확정 (예약이 만료되어 회수됐으면 다시 차감)
+                Map<Long, Integer> quantities = new LinkedHashMap<>();
+                orderItems.forEach(item -> quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum));
+                try {
+                    stockReservationService.commit(user.getId(), orderId, quantities);
+                } catch (InsufficientStockException e) {
+                    log.warn("Order {} rejected: stock reservation expired and product {} sold out", orderId,
+                            e.getProductId());
+                    cancelPayment(paymentKey, headers, "재고 부족");
+                    restoreCart(user.getId(), cartItems);
+                    return ResponseEntity.status(HttpStatus.CONFLICT)
+                            .body(Map.of("message", "결제 대기 중 재고가 소진된 상품이 있습니다.",
+                                    "productId", e.getProductId()));
+                }
+
                 // Payment success, create order
                 JsonNode paymentData = objectMapper.readTree(response.getBody());
                 String orderName = paymentData.get("orderName").asText();
@@ -103,33 +158,136 @@ public class OrderController {
                         .createdAt(java.time.LocalDateTime.now())
                         .build();
 
-                // Move cart items to order items
-                List<CartItem> cartItems = cartRepository.findByUser(user);
-                List<OrderItem> orderItems = cartItems.stream().map(ci -> OrderItem.builder()
-                        .productId(ci.getProduct().getId())
-                        .productName(ci.getProduct().getName())
-                        .productImage(ci.getProduct().getImageUrl())
-                        .priceAtPurchase(ci.getProduct().getPrice())
-                        .quantity(ci.getQuantity())
-                        .build()).collect(Collectors.toList());
-
                 order.setItems(orderItems);
                 orderRepository.save(order);
-
-                // Clear cart
-                cartRepository.deleteAll(cartItems);
+                orderSaved = true;
 
                 return ResponseEntity.ok(order);
             } else {
+                restoreCart(user.getId(), cartItems);
+                stockReservationService.release(user.getId(), orderId);
                 return ResponseEntity.status(response.getStatusCode()).body(response.getBody());
             }
 
         } catch (Exception e) {
             e.printStackTrace();
+            if (!orderSaved) {
+                restoreCart(user.getId(), cartItems);
+            }
+            stockReservationService.release(user.getId(), orderId);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
         }
     }
 
+    /**
+     * 장바구니 항목 -> 주문 상품 (상품 조회는 한 번에)
+     * 담을 때와 현재 가격이 다르면 해당 항목을 현재 가격으로 고치고 changedProductIds에 추가,
+     * 삭제된 상품은 장바구니에서 빼고 changedProductIds에 추가
+     */
+    private List<OrderItem> toOrderItems(List<RedisCartItem> cartItems, List<Long> changedProductIds) {
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productLookup.getAll(cartItems.stream().map(RedisCartItem::getProductId).toList())) {
+            products.put(product.getId(), product);
+        }
+
+        List<OrderItem> orderItems = new ArrayList<>(cartItems.size());
+        for (Iterator<RedisCartItem> it = cartItems.iterator(); it.hasNext();) {
+            RedisCartItem item = it.next();
+            Product product = products.get(item.getProductId());
+            if (product == null) {
+                changedProductIds.add(item.getProductId());
+                it.remove();
+                continue;
+            }
+            if (product.getPrice() != item.getPrice()) {
+                changedProductIds.add(item.getProductId());
+                item.setPrice(product.getPrice());
+                item.setOriginalPrice(product.getOriginalPrice());
+                item.setDiscountRate(product.getDiscountRate());
+            }
+            orderItems.add(OrderItem.builder()
+                    .productId(item.getProductId())
+                    .productName(product.getName())
+                    .productImage(product.getImageUrl())
+                    .priceAtPurchase(product.getPrice())
+                    .quantity(item.getQuantity())
+                    .build());
+        }
+        return orderItems;
+    }
+
+    // 승인된 결제 취소 (실패하면 수동 환불이 필요하므로 오류로 기록)
+    private void cancelPayment(String paymentKey, HttpHeaders headers, String reason) {
+        try {
+            restTemplate.postForEntity("https://api.tosspayments.com/v1/payments/" + paymentKey + "/cancel",
+                    new HttpEntity<>(Map.of("cancelReason", reason), headers), String.class);
+        } catch (RuntimeException e) {
+            log.error("Failed to cancel payment {} of a rejected order, refund manually", paymentKey, e);
+        }
+    }
+
+    // 주문이 만들어지지 않은 경우 꺼낸 장바구니를 되돌림 (복구 실패는 원래 응답을 가리지 않도록 기록만)
+    private void restoreCart(Long userId, List<RedisCartItem> cartItems) {
+        try {
+            redisCartRepository.restore(userId, cartItems);
+        } catch (RuntimeException e) {
+            log.error("Failed to restore cart of user {} ({} items)", userId, cartItems.size(), e);
+        }
+    }
+
+    /**
+     * 재고 예약 API (결제창을 열기 전에 호출)
+     * 요청: { orderId, items: [{ productId, quantity }] }
+     * 모든 상품이 예약되거나 하나도 예약되지 않으며, 예약은 결제 대기 시간이 지나면 자동 해제
+     */
+    @PostMapping("/reservations")
+    public ResponseEntity<?> reserveStock(@RequestBody Map<String, Object> payload,
+            @RequestHeader(value = "X-Admission-Token", required = false) List<String> admissionTokens) {
+        String orderId = (String) payload.get("orderId");
+        Object items = payload.get("items");
+        if (orderId == null || !(items instanceof List<?> itemList) || itemList.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("message", "주문 상품 정보가 없습니다."));
+        }
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (Object item : itemList) {
+            Map<?, ?> entry = (Map<?, ?>) item;
+            Long productId = Long.valueOf(entry.get("productId").toString());
+            int quantity = entry.get("quantity") != null ? Integer.parseInt(entry.get("quantity").toString()) : 1;
+            quantities.merge(productId, quantity, Integer::sum);
+        }
+
+        User user = getCurrentUser();
+
+        // 타임딜 상품은 상품별 입장권 필요 (대기열을 거치지 않은 요청이 재고/DB로 몰리지 않도록)
+        for (Long productId : quantities.keySet()) {
+            if (admissionService.requiresAdmission(productId) && (admissionTokens == null || admissionTokens.stream()
+                    .noneMatch(token -> admissionService.isAdmitted(token.trim(), user.getId(), productId)))) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(Map.of("message", "대기열 입장이 필요합니다.", "productId", productId));
+            }
+        }
+
+        try {
+            Instant expiresAt = stockReservationService.reserve(user.getId(), orderId, quantities);
+            return ResponseEntity.ok(Map.of("orderId", orderId, "expiresAt", expiresAt.toString()));
+        } catch (InsufficientStockException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("message", "재고가 부족한 상품이 있습니다.", "productId", e.getProductId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 재고 예약 해제 API (결제 실패/취소)
+     */
+    @DeleteMapping("/reservations/{orderId}")
+    public ResponseEntity<?> releaseStock(@PathVariable String orderId) {
+        stockReservationService.release(getCurrentUser().getId(), orderId);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping
     public List<Order> getOrders() {
         // Get current user from SecurityContext
@@ -148,6 +306,19 @@ public class OrderController {
         return orderRepository.findByUserOrderByCreatedAtDesc(user);
     }
 
+    private User getCurrentUser() {
+        String email = null;
+        Object principal = org.springframework.security.core.context.SecurityContextHolder.getContext()
+                .getAuthentication().getPrincipal();
+        if (principal instanceof org.springframework.security.core.userdetails.UserDetails) {
+            email = ((org.springframework.security.core.userdetails.UserDetails) principal).getUsername();
+        } else {
+            email = principal.toString();
+        }
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
     private void logToDebugFile(String message) {
         try (java.io.FileWriter fw = new java.io.FileWriter("debug.log", true);
                 java.io.PrintWriter pw = new java.io.PrintWriter(fw)) {
@@ -202,7 +373,10 @@ public class OrderController {
             String orderName = (String) payload.get("orderName");
             Integer amount = (Integer) payload.get("amount");
             Integer usedPoints = payload.get("usedPoints") != null ? ((Number) payload.get("usedPoints")).intValue() : 0;
-            String orderId = "DEMO_" + System.currentTimeMillis();
+            // 재고 예약에 사용한 주문 ID가 있으면 그대로 사용
+            String orderId = payload.get("orderId") != null
+                    ? (String) payload.get("orderId")
+                    : "DEMO_" + System.currentTimeMillis();
 
             // Get current user from SecurityContext
             String email = null;
@@ -258,6 +432,9 @@ public class OrderController {
             // Save to MongoDB
             orderRepository.save(order);
 
+            // 결제 전에 예약한 재고 확정
+            stockReservationService.commit(user.getId(), orderId);
+
             return ResponseEntity.ok(order);
 
         } catch (Exception e) {
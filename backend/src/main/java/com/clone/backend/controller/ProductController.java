@@ -1,20 +1,42 @@
 /**
  * 상품 컨트롤러 (/api/products)
- * - GET: 상품 목록 조회 (카테고리, 타임딜, 베스트 필터링)
- * - GET /{id}: 상품 상세 조회
+ * - GET: 상품 목록 조회 (카테고리, 가격대, 타임딜, 베스트 필터링, 검색은 역색인 검색 엔진 사용)
+ * - 목록은 sort/limit/after 파라미터로 정렬 및 키셋 페이지네이션 (다음 커서는 X-Next-Cursor 헤더)
+ * - 타임딜/베스트 목록은 미리 직렬화된 JSON(gzip 지원 시 압축본)을 그대로 응답
+ * - GET /facets: 사이드바 패싯(카테고리/가격대별 상품 수) 조회
+ * - GET ?ids=1,2,3: 여러 상품을 요청 순서대로 한 번에 조회 (없는 상품은 제외, 최대 MAX_IDS개)
+ * - GET /{id}: 상품 상세 조회 (In-memory 카탈로그 스냅샷, 로딩 전에는 DB 조회)
+ * - 목록/패싯/상세는 카탈로그 버전 기반 ETag/Last-Modified로 조건부 GET 지원
+ *   (If-None-Match가 현재 버전과 같으면 조회/직렬화 없이 304)
+ *   gzip 본문은 다른 표현이므로 ETag에 -gz 접미사를 붙이고, 재검증은 두 형태 모두 허용
  * - GET /search/correct: 검색어 오타수정
- * - GET /timedeal/endtime: 타임딜 종료 시간 조회
+ * - GET /search/suggest: 검색어 자동완성 (메모리 트라이, DB 조회 없음)
+ * - GET /timedeal/endtime: 타임딜 종료 시간 조회 (메모리 힙, DB 조회 없음)
+ * - GET /timedeal/stream: 타임딜 시작/종료, 재고 변경 SSE 스트림 (폴링 대체)
  * - PostgreSQL에서 상품 데이터 조회
  */
 package com.clone.backend.controller;
 
+import com.clone.backend.cache.ProductJsonCache;
+import com.clone.backend.catalog.CatalogVersion;
+import com.clone.backend.catalog.ProductLookup;
+import com.clone.backend.dto.ProductPage;
 import com.clone.backend.model.Product;
-import com.clone.backend.repository.ProductRepository;
+import com.clone.backend.search.SuggestIndex;
 import com.clone.backend.service.ProductService;
+import com.clone.backend.timedeal.TimeDealScheduler;
+import com.clone.backend.timedeal.TimeDealStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,51 +45,124 @@ import java.util.Map;
 @RequestMapping("/api/products")
 public class ProductController {
 
-    private final ProductRepository productRepository;
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int MAX_IDS = 100;
+
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private final ProductLookup productLookup;
     private final ProductService productService;
+    private final SuggestIndex suggestIndex;
+    private final TimeDealScheduler timeDealScheduler;
+    private final TimeDealStream timeDealStream;
+    private final CatalogVersion catalogVersion;
 
-    public ProductController(ProductRepository productRepository, ProductService productService) {
-        this.productRepository = productRepository;
+    public ProductController(ProductLookup productLookup, ProductService productService,
+            SuggestIndex suggestIndex, TimeDealScheduler timeDealScheduler, TimeDealStream timeDealStream,
+            CatalogVersion catalogVersion) {
+        this.productLookup = productLookup;
         this.productService = productService;
+        this.suggestIndex = suggestIndex;
+        this.timeDealScheduler = timeDealScheduler;
+        this.timeDealStream = timeDealStream;
+        this.catalogVersion = catalogVersion;
     }
 
+    /**
+     * 상품 목록 API (키셋 페이지네이션)
+     * - sort: id, price, -price, discountRate, -discountRate, rank, relevance
+     * - limit: 페이지 크기 (최대 1000), after: 이전 응답의 X-Next-Cursor 헤더 값
+     * - 다음 페이지가 있으면 X-Next-Cursor 응답 헤더로 커서 전달
+     */
     @GetMapping
-    public List<Product> getProducts(
+    public ResponseEntity<?> getProducts(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String type,
-            @RequestParam(required = false) String priceRange) {
-        if ("timedeal".equals(type)) {
-            return productRepository.findByIsTimeDealTrue();
-        }
-        if ("best".equals(type)) {
-            return productRepository.findByIsBestTrueOrderByRankAsc();
+            @RequestParam(required = false) String priceRange,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request, HttpServletResponse servletResponse) {
+        if (notModified(request)) {
+            return null;
         }
-        if (category != null && !category.equals("all")) {
-            List<Product> products = productRepository.findByCategory(category);
-            if (priceRange != null && !priceRange.equals("all")) {
-                return filterByPriceRange(products, priceRange);
+
+        ProductPage page;
+        try {
+            ProductJsonCache.Rendered rendered = productService.getRenderedProducts(category, search, type,
+                    priceRange, sort, after, limit);
+            if (rendered != null) {
+                return renderedResponse(rendered, request, servletResponse);
             }
-            return products;
+            page = productService.getProducts(category, search, type, priceRange, sort, after, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
-        if (search != null) {
-            List<Product> products = productRepository.findByNameContaining(search);
-            if (priceRange != null && !priceRange.equals("all")) {
-                return filterByPriceRange(products, priceRange);
-            }
-            return products;
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
         }
-        List<Product> products = productRepository.findAll();
-        if (priceRange != null && !priceRange.equals("all")) {
-            return filterByPriceRange(products, priceRange);
+        return response.body(page.getItems());
+    }
+
+    /**
+     * 사이드바 패싯 개수 API
+     * 목록 API와 같은 조건에서 카테고리/가격대별 상품 수를 반환
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<Map<String, Object>> getFacetCounts(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String priceRange,
+            WebRequest request) {
+        if (notModified(request)) {
+            return null;
         }
-        return products;
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(productService.getFacetCounts(category, search, type, priceRange));
     }
 
     @GetMapping("/{id}")
-    public Product getProduct(@PathVariable long id) {
-        return productRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Product not found"));
+    public ResponseEntity<Product> getProduct(@PathVariable long id, WebRequest request) {
+        if (notModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(productLookup.get(id).orElseThrow(() -> new RuntimeException("Product not found")));
+    }
+
+    /**
+     * 상품 다건 조회 API (장바구니/주문 내역처럼 여러 상품을 한 번에 그릴 때)
+     * ids는 쉼표 구분, 응답은 요청 순서 (중복/없는 상품 제외)
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Product>> getProductsByIds(@RequestParam String ids, WebRequest request) {
+        List<Long> productIds = new ArrayList<>();
+        try {
+            for (String id : ids.split(",")) {
+                if (!id.isBlank()) {
+                    productIds.add(Long.parseLong(id.trim()));
+                }
+            }
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (productIds.size() > MAX_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (notModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(productLookup.getAll(productIds));
     }
 
     /**
@@ -87,47 +182,95 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 검색어 자동완성 API
+     * 상품명 키워드 중 접두어로 시작하는 후보를 인기순으로 반환
+     */
+    @GetMapping("/search/suggest")
+    public ResponseEntity<Map<String, Object>> suggestSearchQuery(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("prefix", prefix);
+        response.put("suggestions", suggestIndex.suggest(prefix, limit));
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 타임딜 종료 시간 조회 API
-     * 가장 빠른 타임딜 종료 시간을 반환
+     * 가장 빠른 타임딜 종료 시간을 반환 (TimeDealScheduler가 미리 계산한 값, DB 조회 없음)
      */
     @GetMapping("/timedeal/endtime")
     public ResponseEntity<Map<String, Object>> getTimeDealEndTime() {
-        List<Product> timeDealProducts = productRepository.findByIsTimeDealTrue();
-        if (timeDealProducts.isEmpty()) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("endTime", null);
-            return ResponseEntity.ok(response);
+        Map<String, Object> response = new HashMap<>();
+        response.put("endTime", timeDealScheduler.getEarliestEndTime());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 타임딜 실시간 스트림 API (Server-Sent Events)
+     * 접속 직후 snapshot, 이후 deal-start/deal-end/stock/endtime 이벤트 전달
+     */
+    @GetMapping(value = "/timedeal/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTimeDeals() {
+        SseEmitter emitter = timeDealStream.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
+        return ResponseEntity.ok(emitter);
+    }
 
-        LocalDateTime earliestEndTime = timeDealProducts.stream()
-                .filter(p -> p.getTimeDealEndTime() != null)
-                .map(Product::getTimeDealEndTime)
-                .min(LocalDateTime::compareTo)
-                .orElse(null);
+    /**
+     * 미리 직렬화된 목록 응답 (클라이언트가 gzip을 받으면 압축본을 그대로 전송)
+     */
+    private ResponseEntity<byte[]> renderedResponse(ProductJsonCache.Rendered rendered, WebRequest request,
+            HttpServletResponse servletResponse) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (rendered.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, rendered.getNextCursor());
+        }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("endTime", earliestEndTime);
-        return ResponseEntity.ok(response);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = rendered.getGzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+        // notModified가 설정한 ETag(같은 카탈로그 버전)를 보내는 표현에 맞는 형태로 교체
+        String eTag = servletResponse.getHeader(HttpHeaders.ETAG);
+        if (eTag != null) {
+            String identityETag = identityETag(eTag);
+            servletResponse.setHeader(HttpHeaders.ETAG, gzip ? gzipETag(identityETag) : identityETag);
+        }
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.getGzip());
+        }
+        return response.body(rendered.getJson());
     }
 
     /**
-     * 가격 범위로 필터링
+     * 조건부 GET 판정 (카탈로그 버전을 데이터보다 먼저 읽어 이전 데이터에 새 ETag가 붙지 않게 함)
+     * 일치하면 304 상태를 설정하고 true, 아니면 ETag/Last-Modified 헤더만 설정
+     * 응답은 no-cache로 내려 브라우저가 Last-Modified 휴리스틱으로 재검증 없이 재사용하지 않게 함
      */
-    private List<Product> filterByPriceRange(List<Product> products, String priceRange) {
-        return products.stream()
-                .filter(p -> {
-                    switch (priceRange) {
-                        case "under10k":
-                            return p.getPrice() < 10000;
-                        case "10k-50k":
-                            return p.getPrice() >= 10000 && p.getPrice() <= 50000;
-                        case "over50k":
-                            return p.getPrice() > 50000;
-                        default:
-                            return true;
-                    }
-                })
-                .collect(java.util.stream.Collectors.toList());
+    private boolean notModified(WebRequest request) {
+        CatalogVersion.Stamp stamp = catalogVersion.current();
+        String eTag = stamp.getETag();
+        // gzip 본문의 ETag로 재검증하면 그 형태로 비교 (두 표현 모두 같은 카탈로그 버전)
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.contains(gzipETag(eTag))) {
+            eTag = gzipETag(eTag);
+        }
+        return request.checkNotModified(eTag, stamp.getLastModified());
+    }
+
+    // "tag" -> "tag-gz"
+    static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    // "tag-gz" -> "tag" (접미사가 없으면 그대로)
+    static String identityETag(String eTag) {
+        String suffix = GZIP_ETAG_SUFFIX + "\"";
+        return eTag.endsWith(suffix) ? eTag.substring(0, eTag.length() - suffix.length()) + "\"" : eTag;
     }
 }
@@ -3,6 +3,7 @@
  * - PUT /me/address: 배송지 주소 업데이트
  * - PUT /me/profile: 프로필 정보 (이름) 업데이트
  * - JWT 쿠키로 현재 사용자 인증
+ * - 수정은 트랜잭션 안에서 조회하여 primary의 최신 행을 기준으로 저장 (replica의 지연된 행으로 덮어쓰지 않음)
  */
 package com.clone.backend.controller;
 
@@ -12,6 +13,7 @@ import com.clone.backend.security.JwtTokenProvider;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -47,6 +49,7 @@ public class UserController {
     }
 
     @PutMapping("/me/address")
+    @Transactional
     public ResponseEntity<?> updateAddress(@RequestBody Map<String, Object> addressData, HttpServletRequest request) {
         Optional<User> userOpt = getCurrentUser(request);
 
@@ -71,6 +74,7 @@ public class UserController {
 
     @SuppressWarnings("null")
     @PutMapping("/me/profile")
+    @Transactional
     public ResponseEntity<?> updateProfile(@RequestBody Map<String, Object> profileData, HttpServletRequest request) {
         Optional<User> userOpt = getCurrentUser(request);
 
@@ -0,0 +1,27 @@
+/**
+ * 장바구니 일괄 변경 요청 DTO
+ * - POST /api/cart/batch 요청 시 사용
+ * - operations: 순서대로 적용할 변경 목록
+ *   op: add(담기, quantity 기본 1) / update(수량 변경, 0 이하면 삭제) / remove(삭제)
+ */
+package com.clone.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CartBatchRequest {
+
+    private List<Operation> operations;
+
+    @Getter
+    @Setter
+    public static class Operation {
+        private String op;
+        private Long productId;
+        private Integer quantity;
+    }
+}
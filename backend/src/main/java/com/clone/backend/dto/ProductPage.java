@@ -0,0 +1,19 @@
+/**
+ * 상품 목록 페이지 DTO
+ * - items: 현재 페이지 상품 목록
+ * - nextCursor: 다음 페이지 요청 시 after 파라미터로 전달할 커서 (마지막 페이지면 null)
+ */
+package com.clone.backend.dto;
+
+import com.clone.backend.model.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ProductPage {
+    private List<Product> items;
+    private String nextCursor;
+}
@@ -2,12 +2,18 @@
  * 상품 엔티티 (PostgreSQL)
  * - 상품명, 가격, 할인율, 이미지 URL, 카테고리
  * - 타임딜/베스트 여부 및 순위 정보
- * - DataInitializer에서 초기 데이터 삽입
+ * - sku: 외부 상품 코드 (CatalogBulkLoader 적재 시 기존 상품 식별 기준, 유니크)
+ * - updatedAt: 카탈로그 변경 피드의 워터마크 폴링 기준 (DB 기본값 now()로 SQL 직접 삽입 행도 포함)
+ * - 저장/수정/삭제는 ProductEntityListener를 통해 In-memory 인덱스에 반영
  */
 package com.clone.backend.model;
 
+import com.clone.backend.catalog.ProductEntityListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -18,11 +24,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
 @Table(name = "products")
+@EntityListeners(ProductEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,6 +43,10 @@ public class Product {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @JsonIgnore
+    @Column(unique = true)
+    private String sku;
+
     private String name;
     private int price;
     private int originalPrice;
@@ -51,4 +63,9 @@ public class Product {
     private Integer rank;
 
     private int stockQuantity;
+
+    @JsonIgnore
+    @UpdateTimestamp
+    @Column(name = "updated_at", columnDefinition = "timestamp default now()")
+    private LocalDateTime updatedAt;
 }
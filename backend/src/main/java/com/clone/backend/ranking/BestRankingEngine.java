@@ -0,0 +1,283 @@
+/**
+ * 판매량 기반 실시간 베스트 순위 엔진
+ * - 주문 저장 이벤트(OrderPlacedEvent)로 상품별 판매량을 슬라이딩 윈도우(기본 1시간, 5분 버킷)에 누적
+ *   주문 샤드를 다시 읽지 않으며, 다른 인스턴스의 주문은 Redis pub/sub(orders:placed)으로 전달받음
+ * - 전체 상위 K개와 카테고리별 상위 k개 후보를 고정 크기 풀로 유지 (메모리/발행 비용 일정)
+ * - 발행 주기마다 순위를 계산하여 바뀐 상품만 isBest/rank 컬럼에 반영하고 카탈로그 변경 피드로 전파
+ *   (순위 변경은 상품별 UPDATE 대신 JDBC 배치 UPDATE 한 번으로 반영)
+ *   (베스트 목록은 기존처럼 패싯 인덱스의 순위 정렬로 조회되므로 조회 비용은 그대로)
+ * - 판매 데이터가 부족할 때는 기존 베스트 상품을 이전 순서대로 뒤에 채워 목록이 비지 않도록 함
+ * - 여러 인스턴스 중 Redis 잠금을 얻은 한 곳만 주기마다 DB에 발행
+ */
+package com.clone.backend.ranking;
+
+import com.clone.backend.catalog.CatalogChangeFeed;
+import com.clone.backend.catalog.CatalogReadModel;
+import com.clone.backend.model.Order;
+import com.clone.backend.model.OrderItem;
+import com.clone.backend.model.Product;
+import com.clone.backend.repository.OrderPlacedEvent;
+import com.clone.backend.repository.ProductRepository;
+import com.clone.backend.search.ProductFacetIndex;
+import com.clone.backend.search.ProductSort;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Component
+public class BestRankingEngine {
+
+    public static final String CHANNEL = "orders:placed";
+    private static final String PUBLISHER_LOCK_KEY = "best:ranking:publisher";
+    private static final String UPDATE_RANK_SQL = "update products set is_best = true, rank = ?, updated_at = ? "
+            + "where id = ?";
+
+    // Count-Min sketch 크기 (버킷당 4 x 2048 int = 32KB)
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+
+    private static final Logger log = LoggerFactory.getLogger(BestRankingEngine.class);
+
+    private final CatalogReadModel catalogReadModel;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductRepository productRepository;
+    private final CatalogChangeFeed catalogChangeFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final int topK;
+    private final int categoryTopK;
+    private final Duration publishInterval;
+
+    // 아래 상태는 this로 동기화
+    private final SalesWindow window;
+    private final CandidatePool candidates;
+    private final Map<String, CandidatePool> categoryCandidates = new HashMap<>();
+
+    public BestRankingEngine(CatalogReadModel catalogReadModel, ProductFacetIndex productFacetIndex,
+            ProductRepository productRepository, CatalogChangeFeed catalogChangeFeed,
+            TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate, StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper, RedisMessageListenerContainer listenerContainer,
+            @Value("${best.ranking.top-k:100}") int topK,
+            @Value("${best.ranking.category-top-k:20}") int categoryTopK,
+            @Value("${best.ranking.buckets:12}") int buckets,
+            @Value("${best.ranking.bucket-length:5m}") Duration bucketLength,
+            @Value("${best.ranking.publish-interval-ms:60000}") long publishIntervalMs) {
+        this.catalogReadModel = catalogReadModel;
+        this.productFacetIndex = productFacetIndex;
+        this.productRepository = productRepository;
+        this.catalogChangeFeed = catalogChangeFeed;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.topK = topK;
+        this.categoryTopK = categoryTopK;
+        this.publishInterval = Duration.ofMillis(publishIntervalMs);
+        this.window = new SalesWindow(buckets, bucketLength.toMillis(), SKETCH_DEPTH, SKETCH_WIDTH);
+        // 윈도우가 밀리며 순위가 바뀌어도 상위권을 놓치지 않도록 발행 개수보다 넉넉하게 유지
+        this.candidates = new CandidatePool(topK * 4);
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onRemoteMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 이 인스턴스에서 저장된 주문 반영 후 다른 인스턴스로 전파
+     */
+    @EventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        Map<Long, Integer> sales = new LinkedHashMap<>();
+        List<OrderItem> items = event.getOrder().getItems();
+        if (items != null) {
+            for (OrderItem item : items) {
+                if (item.getProductId() != null && item.getQuantity() > 0) {
+                    sales.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+                }
+            }
+        }
+        if (sales.isEmpty()) {
+            return;
+        }
+
+        record(sales, System.currentTimeMillis());
+        broadcast(event.getOrder(), sales);
+    }
+
+    /**
+     * 판매 기록 (상품 ID -> 수량)
+     */
+    public synchronized void record(Map<Long, Integer> sales, long nowMillis) {
+        for (Map.Entry<Long, Integer> sale : sales.entrySet()) {
+            long productId = sale.getKey();
+            String category = catalogReadModel.findById(productId).map(Product::getCategory).orElse(null);
+            window.record(productId, sale.getValue(), nowMillis);
+
+            int estimate = window.estimate(productId, nowMillis);
+            candidates.offer(productId, estimate);
+            if (category != null) {
+                categoryCandidates.computeIfAbsent(category, c -> new CandidatePool(categoryTopK * 4))
+                        .offer(productId, estimate);
+            }
+        }
+    }
+
+    /**
+     * 현재 윈도우 기준 베스트 순위 (전체 상위 K ∪ 카테고리별 상위 k, 판매량 내림차순)
+     */
+    public synchronized List<Long> ranking(long nowMillis) {
+        Map<Long, Integer> ranked = new HashMap<>();
+        for (Long productId : candidates.top(topK, id -> window.estimate(id, nowMillis))) {
+            ranked.put(productId, candidates.estimateOf(productId));
+        }
+        for (CandidatePool pool : categoryCandidates.values()) {
+            for (Long productId : pool.top(categoryTopK, id -> window.estimate(id, nowMillis))) {
+                ranked.putIfAbsent(productId, pool.estimateOf(productId));
+            }
+        }
+
+        List<Long> ordered = new ArrayList<>(ranked.keySet());
+        ordered.sort(Comparator.<Long>comparingInt(ranked::get).reversed().thenComparing(Comparator.naturalOrder()));
+        return ordered;
+    }
+
+    /**
+     * 베스트 순위 발행 (바뀐 상품만 DB 반영 후 변경 피드로 전파)
+     */
+    @Scheduled(fixedDelayString = "${best.ranking.publish-interval-ms:60000}")
+    public void publish() {
+        List<Long> ranked = ranking(System.currentTimeMillis());
+        if (ranked.isEmpty() || !acquirePublisherLock()) {
+            return;
+        }
+
+        List<Long> previous = currentBest();
+        Set<Long> next = new LinkedHashSet<>(ranked);
+        for (Long productId : previous) {
+            if (next.size() >= topK) {
+                break;
+            }
+            next.add(productId);
+        }
+
+        Map<Long, Integer> changedRanks = new LinkedHashMap<>();
+        int rank = 1;
+        for (Long productId : next) {
+            Product product = catalogReadModel.findById(productId).orElse(null);
+            if (product != null && (!product.isBest() || !Objects.equals(product.getRank(), rank))) {
+                changedRanks.put(productId, rank);
+            }
+            if (product != null) {
+                rank++;
+            }
+        }
+        List<Long> demoted = new ArrayList<>();
+        for (Long productId : previous) {
+            if (!next.contains(productId)) {
+                demoted.add(productId);
+            }
+        }
+        if (changedRanks.isEmpty() && demoted.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        // 상품 ID 순으로 갱신하여 재고 반영기 등 다른 트랜잭션과 행 잠금 순서를 맞춤
+        List<Object[]> batch = new ArrayList<>(changedRanks.size());
+        new TreeMap<>(changedRanks).forEach((productId, newRank) ->
+                batch.add(new Object[] { newRank, Timestamp.valueOf(now), productId }));
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!demoted.isEmpty()) {
+                productRepository.clearBest(demoted, now);
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_RANK_SQL, batch);
+            }
+        });
+
+        List<Long> changed = new ArrayList<>(changedRanks.keySet());
+        changed.addAll(demoted);
+        catalogChangeFeed.publishUpdated(changed);
+        log.info("Published best ranking: {} re-ranked, {} demoted", changedRanks.size(), demoted.size());
+    }
+
+    // 현재 베스트 상품 (순위순)
+    private List<Long> currentBest() {
+        RoaringBitmap best = productFacetIndex.filter(new ProductFacetIndex.Filter(null, null, null, Boolean.TRUE));
+        if (best.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return productFacetIndex.page(best, ProductSort.RANK, null, best.getCardinality()).getIds();
+    }
+
+    // 발행 주기 동안 한 인스턴스만 발행하도록 잠금 (다음 주기 전에 만료)
+    private boolean acquirePublisherLock() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(PUBLISHER_LOCK_KEY, instanceId,
+                    publishInterval.multipliedBy(9).dividedBy(10));
+            return Boolean.TRUE.equals(acquired);
+        } catch (RuntimeException e) {
+            log.warn("Skipping best ranking publish: lock unavailable", e);
+            return false;
+        }
+    }
+
+    private void broadcast(Order order, Map<Long, Integer> sales) {
+        try {
+            Map<String, Object> message = new LinkedHashMap<>();
+            message.put("origin", instanceId);
+            message.put("orderId", order.getId());
+            message.put("sales", sales);
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast sales of order {}", order.getId(), e);
+        }
+    }
+
+    private void onRemoteMessage(String payload) {
+        try {
+            JsonNode message = objectMapper.readTree(payload);
+            if (instanceId.equals(message.path("origin").asText())) {
+                return;
+            }
+            Map<Long, Integer> sales = new LinkedHashMap<>();
+            message.path("sales").fields()
+                    .forEachRemaining(entry -> sales.put(Long.valueOf(entry.getKey()), entry.getValue().asInt()));
+            if (!sales.isEmpty()) {
+                record(sales, System.currentTimeMillis());
+            }
+        } catch (Exception e) {
+            log.warn("Ignoring malformed order sales message", e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * 순위 후보 풀 (판매량 상위 후보 상품 ID를 고정 개수만 유지)
+ * - 판매가 기록될 때마다 추정치로 후보에 넣고, 가득 차면 추정치가 가장 낮은 후보와 교체
+ * - 발행 시에는 후보의 추정치를 윈도우 기준으로 다시 계산한 뒤 크기 k 최소 힙으로 상위 k개 선택
+ * - 후보 수가 고정이므로 메모리와 발행 비용이 상품/주문 수와 무관
+ */
+package com.clone.backend.ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongToIntFunction;
+
+final class CandidatePool {
+
+    private final int capacity;
+    private final Map<Long, Integer> estimates = new HashMap<>();
+
+    CandidatePool(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void offer(long productId, int estimate) {
+        if (estimates.containsKey(productId) || estimates.size() < capacity) {
+            estimates.put(productId, estimate);
+            return;
+        }
+
+        Long weakest = null;
+        int weakestEstimate = Integer.MAX_VALUE;
+        for (Map.Entry<Long, Integer> entry : estimates.entrySet()) {
+            if (entry.getValue() < weakestEstimate) {
+                weakest = entry.getKey();
+                weakestEstimate = entry.getValue();
+            }
+        }
+        if (estimate > weakestEstimate) {
+            estimates.remove(weakest);
+            estimates.put(productId, estimate);
+        }
+    }
+
+    /**
+     * 현재 추정치 기준 상위 k개 (판매량 내림차순, 동률은 상품 ID 오름차순)
+     * 윈도우에서 판매량이 0이 된 후보는 풀에서 제거
+     */
+    List<Long> top(int k, LongToIntFunction estimator) {
+        PriorityQueue<long[]> heap = new PriorityQueue<>((a, b) -> a[1] != b[1]
+                ? Long.compare(a[1], b[1])
+                : Long.compare(b[0], a[0]));
+        estimates.entrySet().removeIf(entry -> {
+            int estimate = estimator.applyAsInt(entry.getKey());
+            entry.setValue(estimate);
+            return estimate == 0;
+        });
+        for (Map.Entry<Long, Integer> entry : estimates.entrySet()) {
+            heap.add(new long[] { entry.getKey(), entry.getValue() });
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        List<Long> top = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            top.add(heap.poll()[0]);
+        }
+        Collections.reverse(top);
+        return top;
+    }
+
+    int estimateOf(long productId) {
+        return estimates.getOrDefault(productId, 0);
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Count-Min sketch (상품별 판매량 근사 카운터)
+ * - depth x width 고정 크기 카운터 배열, 상품 수와 무관하게 메모리 일정
+ * - 추정치는 실제 값 이상 (과대 추정만 발생), conservative update로 과대 추정 폭을 줄임
+ * - width는 2의 거듭제곱으로 맞춰 나머지 연산 대신 비트 마스크 사용
+ */
+package com.clone.backend.ranking;
+
+import java.util.Arrays;
+
+public final class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x85EBCA77C2B2AE63L, 0x27D4EB2F165667C5L
+    };
+
+    private final int depth;
+    private final int mask;
+    private final int[][] counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length);
+        }
+        int size = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.depth = depth;
+        this.mask = size - 1;
+        this.counters = new int[depth][size];
+    }
+
+    /**
+     * key의 카운트를 count만큼 증가 (최솟값인 칸만 올리는 conservative update)
+     */
+    public void add(long key, int count) {
+        int[] slots = new int[depth];
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            slots[row] = slot(key, row);
+            min = Math.min(min, counters[row][slots[row]]);
+        }
+        int target = min + count;
+        for (int row = 0; row < depth; row++) {
+            if (counters[row][slots[row]] < target) {
+                counters[row][slots[row]] = target;
+            }
+        }
+    }
+
+    public int estimate(long key) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row][slot(key, row)]);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int[] row : counters) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    private int slot(long key, int row) {
+        long h = (key + SEEDS[row]) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= SEEDS[(row + 1) % SEEDS.length];
+        h ^= h >>> 29;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * 슬라이딩 윈도우 판매량 카운터
+ * - 윈도우를 고정 길이 버킷 N개로 나누고 버킷마다 상품별 판매량 Count-Min sketch를 유지
+ * - 시간이 지나 재사용되는 버킷은 비우고 다시 사용 (링 버퍼) -> 메모리는 버킷 수 x sketch 크기로 고정
+ * - 조회는 현재 윈도우에 속한 버킷의 합 (버킷 경계 단위로 오래된 판매가 빠짐)
+ * - 동기화는 호출 측(BestRankingEngine)에서 담당
+ */
+package com.clone.backend.ranking;
+
+import java.util.Arrays;
+
+public final class SalesWindow {
+
+    private final long bucketMillis;
+    private final CountMinSketch[] sketches;
+    private final long[] bucketEpochs;
+
+    public SalesWindow(int bucketCount, long bucketMillis, int depth, int width) {
+        this.bucketMillis = bucketMillis;
+        this.sketches = new CountMinSketch[bucketCount];
+        this.bucketEpochs = new long[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            sketches[i] = new CountMinSketch(depth, width);
+        }
+        Arrays.fill(bucketEpochs, -1);
+    }
+
+    public void record(long productId, int quantity, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int bucket = (int) (epoch % sketches.length);
+        if (bucketEpochs[bucket] != epoch) {
+            // 한 바퀴 돌아온 버킷: 이전 주기의 판매량 제거
+            sketches[bucket].clear();
+            bucketEpochs[bucket] = epoch;
+        }
+
+        sketches[bucket].add(productId, quantity);
+    }
+
+    /**
+     * 윈도우 내 상품 판매량 추정치 (실제 이상)
+     */
+    public int estimate(long productId, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int sum = 0;
+        for (int bucket = 0; bucket < sketches.length; bucket++) {
+            if (isLive(bucket, epoch)) {
+                sum += sketches[bucket].estimate(productId);
+            }
+        }
+        return sum;
+    }
+
+    private boolean isLive(int bucket, long currentEpoch) {
+        return bucketEpochs[bucket] > currentEpoch - sketches.length && bucketEpochs[bucket] <= currentEpoch;
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * 장바구니 항목(RedisCartItem) Redis 값 코덱
+ * - BINARY: 버전 바이트 + 플래그 + varint 숫자 필드 + 길이 접두 UTF-8 문자열 (클래스명/필드명/ISO 날짜 문자열 없음, 담은 시각은 ms 단위)
+ * - 이미지 URL이 카탈로그의 상품 이미지와 같으면 URL 대신 "상품 이미지 참조" 플래그만 저장하고 읽을 때 카탈로그에서 채움
+ * - JSON: 기존 GenericJackson2JsonRedisSerializer 형식 (롤링 배포 중 이전 버전 서버와 섞여 있을 때 cart.codec=json으로 사용)
+ * - 읽기는 설정과 관계없이 첫 바이트로 형식을 구분 (JSON은 '{', BINARY는 버전 바이트) - 기존 JSON 값도 그대로 읽힘
+ * - 기존 값은 다시 담을 때 스냅샷이 유지되므로 변환하지 않고, 장바구니 TTL(7일)이 지나면 자연히 사라짐
+ */
+package com.clone.backend.repository;
+
+import com.clone.backend.model.RedisCartItem;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Function;
+
+public final class CartItemCodec {
+
+    public enum Format {
+        BINARY, JSON
+    }
+
+    static final byte VERSION = 1;
+
+    private static final int HAS_PRODUCT_ID = 1;
+    private static final int CATALOG_IMAGE = 1 << 1;
+    private static final int HAS_ADDED_AT = 1 << 2;
+
+    private final Format format;
+    private final RedisSerializer<Object> jsonSerializer;
+    private final Function<Long, String> catalogImage;
+
+    /**
+     * @param jsonSerializer 기존 JSON 값 읽기 (및 JSON 형식 쓰기)용 직렬화기
+     * @param catalogImage 상품 ID로 현재 카탈로그 이미지 URL 조회 (없으면 null)
+     */
+    public CartItemCodec(Format format, RedisSerializer<Object> jsonSerializer,
+            Function<Long, String> catalogImage) {
+        this.format = format;
+        this.jsonSerializer = jsonSerializer;
+        this.catalogImage = catalogImage;
+    }
+
+    public byte[] encode(RedisCartItem item) {
+        if (format == Format.JSON) {
+            return jsonSerializer.serialize(item);
+        }
+
+        Long productId = item.getProductId();
+        String image = item.getProductImage();
+        boolean catalogRef = productId != null && image != null && image.equals(catalogImage.apply(productId));
+        int flags = (productId != null ? HAS_PRODUCT_ID : 0)
+                | (catalogRef ? CATALOG_IMAGE : 0)
+                | (item.getAddedAt() != null ? HAS_ADDED_AT : 0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(VERSION);
+        out.write(flags);
+        if (productId != null) {
+            writeVarLong(out, productId);
+        }
+        writeVarLong(out, zigZag(item.getPrice()));
+        writeVarLong(out, zigZag(item.getOriginalPrice()));
+        writeVarLong(out, zigZag(item.getDiscountRate()));
+        writeVarLong(out, zigZag(item.getQuantity()));
+        if (item.getAddedAt() != null) {
+            writeVarLong(out, zigZag(item.getAddedAt().toInstant(ZoneOffset.UTC).toEpochMilli()));
+        }
+        writeString(out, item.getProductName());
+        if (!catalogRef) {
+            writeString(out, image);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 저장된 값 복원 (BINARY / 기존 JSON 모두)
+     * @return 빈 값이면 null
+     */
+    public RedisCartItem decode(byte[] value) {
+        if (value == null || value.length == 0) {
+            return null;
+        }
+        if (value[0] == '{') {
+            return (RedisCartItem) jsonSerializer.deserialize(value);
+        }
+        if (value[0] != VERSION) {
+            throw new IllegalArgumentException("Unknown cart item format: " + value[0]);
+        }
+
+        try {
+            ByteBuffer in = ByteBuffer.wrap(value, 1, value.length - 1);
+            int flags = in.get();
+            RedisCartItem item = new RedisCartItem();
+            if ((flags & HAS_PRODUCT_ID) != 0) {
+                item.setProductId(readVarLong(in));
+            }
+            item.setPrice((int) unZigZag(readVarLong(in)));
+            item.setOriginalPrice((int) unZigZag(readVarLong(in)));
+            item.setDiscountRate((int) unZigZag(readVarLong(in)));
+            item.setQuantity((int) unZigZag(readVarLong(in)));
+            if ((flags & HAS_ADDED_AT) != 0) {
+                long epochMillis = unZigZag(readVarLong(in));
+                item.setAddedAt(LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000),
+                        (int) Math.floorMod(epochMillis, 1000) * 1_000_000, ZoneOffset.UTC));
+            }
+            item.setProductName(readString(in));
+            item.setProductImage((flags & CATALOG_IMAGE) != 0
+                    ? catalogImage.apply(item.getProductId())
+                    : readString(in));
+            return item;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated cart item value", e);
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in cart item value");
+    }
+
+    // 길이 + 1 (0이면 null) 뒤에 UTF-8 바이트
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            out.write(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        long length = readVarLong(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        int start = in.position();
+        in.position(start + (int) length);
+        return new String(in.array(), start, (int) length, StandardCharsets.UTF_8);
+    }
+}
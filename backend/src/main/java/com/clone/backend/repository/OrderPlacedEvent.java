@@ -0,0 +1,17 @@
+/**
+ * 주문 저장 완료 이벤트
+ * - OrderRepository.save()가 결제 완료(PAID) 주문을 샤드에 저장한 직후 스프링 이벤트로 발행
+ * - 판매량 집계(BestRankingEngine) 등 주문 샤드를 다시 읽지 않고 주문을 받아야 하는 구성요소가 구독
+ */
+package com.clone.backend.repository;
+
+import com.clone.backend.model.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderPlacedEvent {
+
+    private final Order order;
+}
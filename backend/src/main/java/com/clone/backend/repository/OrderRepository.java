@@ -2,7 +2,7 @@
  * 주문 레포지토리 (MongoDB - 커스텀 구현)
  * - OrderRouter를 사용하여 userId 기반 샤딩
  * - 연도별 파티셔닝 (orders_2024, orders_2025)
- * - save(): 주문 저장, findByUser(): 사용자별 주문 조회
+ * - save(): 주문 저장 (결제 완료 주문은 OrderPlacedEvent 발행), findByUser(): 사용자별 주문 조회
  * - delete(): 주문 삭제 (Hard Delete, 샤드 전체 탐색)
  */
 package com.clone.backend.repository;
@@ -10,6 +10,7 @@ package com.clone.backend.repository;
 import com.clone.backend.model.Order;
 import com.clone.backend.model.User;
 import com.clone.backend.sharding.OrderRouter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -22,9 +23,11 @@ import java.util.List;
 public class OrderRepository {
 
     private final OrderRouter orderRouter;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public OrderRepository(OrderRouter orderRouter) {
+    public OrderRepository(OrderRouter orderRouter, ApplicationEventPublisher eventPublisher) {
         this.orderRouter = orderRouter;
+        this.eventPublisher = eventPublisher;
     }
 
     @SuppressWarnings("null")
@@ -40,7 +43,13 @@ public class OrderRepository {
         String collectionName = orderRouter.getCurrentCollectionName();
 
         // 3. Save
-        return template.save(order, collectionName);
+        Order saved = template.save(order, collectionName);
+
+        // 4. Notify (sales ranking etc.)
+        if (Order.OrderStatus.PAID.name().equals(saved.getStatus())) {
+            eventPublisher.publishEvent(new OrderPlacedEvent(saved));
+        }
+        return saved;
     }
 
     @SuppressWarnings("null")
@@ -1,20 +1,41 @@
 /**
  * 상품 레포지토리 (PostgreSQL - JPA)
- * - 카테고리, 이름, 타임딜, 베스트 상품 조회
+ * - updated_at 워터마크 이후 변경된 상품 조회 (카탈로그 변경 피드)
+ * - 종료된 타임딜 일괄 해제 (TimeDealScheduler, 벌크 UPDATE 1회)
+ * - 판매량 기반 베스트 순위 반영 (BestRankingEngine)
+ * - 상품명 검색은 ProductSearchIndex(역색인), 카테고리/가격대/베스트 필터는 ProductFacetIndex(비트맵)가 담당
  * - Spring Data JPA 자동 구현
  */
 package com.clone.backend.repository;
 
 import com.clone.backend.model.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
-    List<Product> findByCategory(String category);
+    List<Product> findByUpdatedAtAfter(LocalDateTime updatedAt);
 
-    List<Product> findByNameContaining(String name);
+    /**
+     * 종료 시간이 지난 타임딜 해제 (엔티티 리스너를 거치지 않으므로 updated_at도 직접 갱신)
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Product p set p.isTimeDeal = false, p.updatedAt = :now "
+            + "where p.id in :ids and p.isTimeDeal = true and p.timeDealEndTime <= :now")
+    int expireTimeDeals(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 
-    List<Product> findByIsTimeDealTrue();
-
-    List<Product> findByIsBestTrueOrderByRankAsc();
+    /**
+     * 베스트 해제 (순위에서 밀려난 상품)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Product p set p.isBest = false, p.rank = null, p.updatedAt = :now where p.id in :ids")
+    int clearBest(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
@@ -2,15 +2,38 @@
  * Redis 장바구니 레포지토리
  * - Redis Hash 연산으로 장바구니 CRUD
  * - Key 패턴: cart:{userId}
+ * - 필드: {productId} = 상품 스냅샷 (직렬화된 RedisCartItem), {productId}:qty = 수량 (정수, HINCRBY 대상)
+ * - 담기/수량 변경은 Lua 스크립트 한 번으로 수량 갱신 + 첫 담기 시각 + TTL 갱신 (왕복 1회, 동시 요청에도 유실 없음)
+ * - 수량 필드가 없는 이전 형식 항목은 스냅샷 안의 수량을 사용
+ * - 일괄 변경(applyBatch)은 모든 변경 + TTL 갱신 1회 + 결과 조회를 파이프라인 한 번으로 전송
+ * - 스냅샷 값은 CartItemCodec으로 인코딩 (cart.codec=binary 기본, 이전 JSON 값도 읽음)
+ * - 전체 조회는 CartNearCache를 거치고, 모든 변경은 쓰기 후 해당 사용자 캐시를 무효화
+ * - 주문 확정(checkout)은 조회 + 삭제를 스크립트 한 번으로 수행, 주문 저장 실패 시 restore로 되돌림
+ *   (되돌릴 때는 처음 담은 시각을 유지하여 주문이 거절돼도 장바구니 순서가 바뀌지 않음)
  * - 7일 TTL 자동 적용
  */
 package com.clone.backend.repository;
 
+import com.clone.backend.cache.CartNearCache;
+import com.clone.backend.catalog.ProductLookup;
+import com.clone.backend.model.Product;
 import com.clone.backend.model.RedisCartItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -18,13 +41,63 @@ import java.util.concurrent.TimeUnit;
 @Repository
 public class RedisCartRepository {
 
-    private static final String CART_KEY_PREFIX = "cart:";
-    private static final long CART_TTL_DAYS = 7;
+    public static final String CART_KEY_PREFIX = "cart:";
+    private static final String QUANTITY_FIELD_SUFFIX = ":qty";
+    private static final long CART_TTL_MILLIS = Duration.ofDays(7).toMillis();
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final CartItemCodec codec;
+    private final CartNearCache nearCache;
 
-    public RedisCartRepository(RedisTemplate<String, Object> redisTemplate) {
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> addScript = script("redis/cart-add.lua");
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> setQuantityScript = script("redis/cart-set-quantity.lua");
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> checkoutScript = script("redis/cart-checkout.lua");
+
+    @SuppressWarnings("unchecked")
+    public RedisCartRepository(RedisTemplate<String, Object> redisTemplate, ProductLookup productLookup,
+            CartNearCache nearCache, @Value("${cart.codec:binary}") String codecFormat) {
         this.redisTemplate = redisTemplate;
+        this.nearCache = nearCache;
+        this.codec = new CartItemCodec(CartItemCodec.Format.valueOf(codecFormat.toUpperCase()),
+                (RedisSerializer<Object>) redisTemplate.getHashValueSerializer(),
+                productId -> productLookup.get(productId).map(Product::getImageUrl).orElse(null));
+    }
+
+    /**
+     * 일괄 변경 항목 (담기 / 수량 변경 / 삭제)
+     */
+    public static final class Mutation {
+
+        private enum Type {
+            ADD, RESTORE, UPDATE, REMOVE
+        }
+
+        private final Type type;
+        private final Long productId;
+        private final RedisCartItem item;
+        private final int quantity;
+
+        private Mutation(Type type, Long productId, RedisCartItem item, int quantity) {
+            this.type = type;
+            this.productId = productId;
+            this.item = item;
+            this.quantity = quantity;
+        }
+
+        public static Mutation add(RedisCartItem item) {
+            return new Mutation(Type.ADD, item.getProductId(), item, item.getQuantity());
+        }
+
+        public static Mutation update(Long productId, int quantity) {
+            return new Mutation(Type.UPDATE, productId, null, quantity);
+        }
+
+        public static Mutation remove(Long productId) {
+            return new Mutation(Type.REMOVE, productId, null, 0);
+        }
     }
 
     private String getCartKey(Long userId) {
@@ -35,58 +108,101 @@ public class RedisCartRepository {
      * 장바구니에 상품 추가 (이미 있으면 수량 증가)
      */
     public RedisCartItem addItem(Long userId, RedisCartItem item) {
-        String cartKey = getCartKey(userId);
+        item.setAddedAt(LocalDateTime.now());
         String productKey = String.valueOf(item.getProductId());
+        RedisCartItem added = execute(addScript, userId, productKey, codec.encode(item), bytes(item.getQuantity()));
+        nearCache.invalidate(userId);
+        return added;
+    }
 
-        // 기존 아이템 확인
-        RedisCartItem existingItem = (RedisCartItem) redisTemplate.opsForHash().get(cartKey, productKey);
-
-        if (existingItem != null) {
-            existingItem.setQuantity(existingItem.getQuantity() + item.getQuantity());
-            redisTemplate.opsForHash().put(cartKey, productKey, existingItem);
-        } else {
-            item.setAddedAt(java.time.LocalDateTime.now());
-            redisTemplate.opsForHash().put(cartKey, productKey, item);
-        }
-
-        // TTL 갱신 (7일)
-        redisTemplate.expire(cartKey, CART_TTL_DAYS, TimeUnit.DAYS);
+    /**
+     * 여러 변경을 순서대로 적용하고 결과 장바구니 반환 (Redis 왕복 1회)
+     * 수량 변경은 담겨 있는 상품에만 적용, TTL은 마지막에 한 번 갱신
+     */
+    @SuppressWarnings("unchecked")
+    public List<RedisCartItem> applyBatch(Long userId, List<Mutation> mutations) {
+        byte[] cartKey = bytes(getCartKey(userId));
+        byte[] noTtl = bytes(0);
+        LocalDateTime now = LocalDateTime.now();
 
-        return existingItem != null ? existingItem : item;
+        List<Object> results = redisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            for (Mutation mutation : mutations) {
+                byte[] productField = bytes(mutation.productId);
+                byte[] quantityField = bytes(mutation.productId + QUANTITY_FIELD_SUFFIX);
+                switch (mutation.type) {
+                    case ADD, RESTORE -> {
+                        if (mutation.type == Mutation.Type.ADD || mutation.item.getAddedAt() == null) {
+                            mutation.item.setAddedAt(now);
+                        }
+                        eval(connection, addScript, cartKey, productField, quantityField, codec.encode(mutation.item),
+                                bytes(mutation.quantity), noTtl);
+                    }
+                    case UPDATE -> eval(connection, setQuantityScript, cartKey, productField, quantityField,
+                            bytes(mutation.quantity), noTtl);
+                    case REMOVE -> connection.hashCommands().hDel(cartKey, productField, quantityField);
+                }
+            }
+            connection.keyCommands().pExpire(cartKey, CART_TTL_MILLIS);
+            connection.hashCommands().hGetAll(cartKey);
+            return connection.closePipeline();
+        });
+        nearCache.invalidate(userId);
+        return results == null || results.isEmpty()
+                ? new ArrayList<>()
+                : toItems((Map<byte[], byte[]>) results.get(results.size() - 1));
     }
 
     /**
      * 사용자의 전체 장바구니 조회
      */
     public List<RedisCartItem> getCart(Long userId) {
-        String cartKey = getCartKey(userId);
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(cartKey);
+        return nearCache.get(userId, this::loadCart);
+    }
+
+    private List<RedisCartItem> loadCart(Long userId) {
+        byte[] cartKey = bytes(getCartKey(userId));
+        return toItems(redisTemplate.execute(
+                (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(cartKey)));
+    }
 
+    // 해시 전체(스냅샷 + 수량 필드)를 장바구니 항목으로 변환
+    private List<RedisCartItem> toItems(Map<byte[], byte[]> entries) {
         List<RedisCartItem> items = new ArrayList<>();
-        for (Object value : entries.values()) {
-            if (value instanceof RedisCartItem) {
-                items.add((RedisCartItem) value);
+        Map<String, Integer> quantities = new HashMap<>();
+        if (entries == null) {
+            return items;
+        }
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            String field = new String(entry.getKey(), StandardCharsets.UTF_8);
+            if (field.endsWith(QUANTITY_FIELD_SUFFIX)) {
+                quantities.put(field.substring(0, field.length() - QUANTITY_FIELD_SUFFIX.length()),
+                        Integer.valueOf(new String(entry.getValue(), StandardCharsets.UTF_8)));
+            } else {
+                RedisCartItem item = codec.decode(entry.getValue());
+                if (item != null) {
+                    items.add(item);
+                }
             }
         }
 
+        for (RedisCartItem item : items) {
+            Integer quantity = quantities.get(String.valueOf(item.getProductId()));
+            if (quantity != null) {
+                item.setQuantity(quantity);
+            }
+        }
         return items;
     }
 
     /**
      * 특정 상품 수량 변경
+     * @return 변경된 항목, 장바구니에 없는 상품이면 null
      */
     public RedisCartItem updateQuantity(Long userId, Long productId, int quantity) {
-        String cartKey = getCartKey(userId);
-        String productKey = String.valueOf(productId);
-
-        RedisCartItem item = (RedisCartItem) redisTemplate.opsForHash().get(cartKey, productKey);
-        if (item != null) {
-            item.setQuantity(quantity);
-            redisTemplate.opsForHash().put(cartKey, productKey, item);
-            redisTemplate.expire(cartKey, CART_TTL_DAYS, TimeUnit.DAYS);
-        }
-
-        return item;
+        RedisCartItem updated = execute(setQuantityScript, userId, String.valueOf(productId), bytes(quantity));
+        nearCache.invalidate(userId);
+        return updated;
     }
 
     /**
@@ -95,7 +211,8 @@ public class RedisCartRepository {
     public void removeItem(Long userId, Long productId) {
         String cartKey = getCartKey(userId);
         String productKey = String.valueOf(productId);
-        redisTemplate.opsForHash().delete(cartKey, productKey);
+        redisTemplate.opsForHash().delete(cartKey, productKey, productKey + QUANTITY_FIELD_SUFFIX);
+        nearCache.invalidate(userId);
     }
 
     /**
@@ -104,6 +221,35 @@ public class RedisCartRepository {
     public void clearCart(Long userId) {
         String cartKey = getCartKey(userId);
         redisTemplate.delete(cartKey);
+        nearCache.invalidate(userId);
+    }
+
+    /**
+     * 주문 확정용으로 장바구니를 꺼내고 비움 (원자적, 왕복 1회)
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public List<RedisCartItem> checkout(Long userId) {
+        RedisSerializer raw = RedisSerializer.byteArray();
+        List<byte[]> entries = redisTemplate.execute(checkoutScript, raw, raw, List.of(getCartKey(userId)));
+        nearCache.invalidate(userId);
+
+        Map<byte[], byte[]> hash = new LinkedHashMap<>();
+        for (int i = 0; entries != null && i + 1 < entries.size(); i += 2) {
+            hash.put(entries.get(i), entries.get(i + 1));
+        }
+        return toItems(hash);
+    }
+
+    /**
+     * checkout으로 꺼낸 항목을 다시 담음 (그 사이 담긴 상품은 수량 합산, 왕복 1회)
+     * 스냅샷은 담은 시각까지 받은 그대로 저장
+     */
+    public void restore(Long userId, List<RedisCartItem> items) {
+        if (!items.isEmpty()) {
+            applyBatch(userId, items.stream()
+                    .map(item -> new Mutation(Mutation.Type.RESTORE, item.getProductId(), item, item.getQuantity()))
+                    .toList());
+        }
     }
 
     /**
@@ -113,4 +259,46 @@ public class RedisCartRepository {
         String cartKey = getCartKey(userId);
         return redisTemplate.getExpire(cartKey, TimeUnit.SECONDS);
     }
+
+    /**
+     * 장바구니 스크립트 실행 (인자: 상품 필드, 수량 필드, 스크립트별 값..., TTL)
+     * 스냅샷은 코덱으로 미리 인코딩해 그대로 전달하고, 결과 {스냅샷, 수량}을 항목으로 복원
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RedisCartItem execute(DefaultRedisScript<List> script, Long userId, String productKey, byte[]... values) {
+        Object[] args = new Object[values.length + 3];
+        args[0] = bytes(productKey);
+        args[1] = bytes(productKey + QUANTITY_FIELD_SUFFIX);
+        System.arraycopy(values, 0, args, 2, values.length);
+        args[args.length - 1] = bytes(CART_TTL_MILLIS);
+
+        RedisSerializer raw = RedisSerializer.byteArray();
+        List<?> result = redisTemplate.execute(script, raw, raw, List.of(getCartKey(userId)), args);
+        if (result == null || result.size() < 2) {
+            return null;
+        }
+        RedisCartItem item = codec.decode((byte[]) result.get(0));
+        if (item != null) {
+            item.setQuantity(((Number) result.get(1)).intValue());
+        }
+        return item;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void eval(RedisConnection connection, DefaultRedisScript<List> script, byte[]... keyAndArgs) {
+        connection.scriptingCommands().eval(script.getScriptAsString().getBytes(StandardCharsets.UTF_8),
+                ReturnType.MULTI, 1, keyAndArgs);
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static DefaultRedisScript<List> script(String path) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(List.class);
+        return script;
+    }
 }
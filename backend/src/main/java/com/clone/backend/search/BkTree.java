@@ -0,0 +1,123 @@
+/**
+ * BK-tree (Burkhard-Keller tree)
+ * - 편집 거리 기반 근사 문자열 검색용 트리
+ * - 각 노드의 자식은 부모와의 거리로 구분되며, 삼각부등식으로 탐색 범위를 가지치기
+ * - 임계값 이내 후보만 방문하므로 전체 키워드를 순회하지 않음
+ * - 거리 함수에 상한을 전달하여, 가지치기에 필요 없는 먼 단어는 거리 계산을 조기 종료
+ * - 스레드 안전하지 않음 (호출 측에서 동기화)
+ */
+package com.clone.backend.search;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+public class BkTree {
+
+    /**
+     * 검색 결과 콜백
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(String word, int distance);
+    }
+
+    /**
+     * 상한이 있는 거리 함수 (거리가 maxDistance를 넘으면 maxDistance보다 큰 아무 값이나 반환 가능)
+     */
+    @FunctionalInterface
+    public interface Metric {
+        int distance(String a, String b, int maxDistance);
+    }
+
+    private static final class Node {
+        private final String word;
+        private Map<Integer, Node> children;
+        private int maxEdge;
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+
+    private final Metric metric;
+    private final int unbounded;
+    private Node root;
+    private int size;
+
+    /**
+     * @param unbounded 정확한 거리가 필요할 때(삽입 시) 거리 함수에 전달할 상한
+     */
+    public BkTree(Metric metric, int unbounded) {
+        this.metric = metric;
+        this.unbounded = unbounded;
+    }
+
+    /**
+     * 단어 추가 (이미 있으면 무시)
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return true;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = metric.distance(word, node.word, unbounded);
+            if (distance == 0) {
+                return false;
+            }
+            if (node.children == null) {
+                node.children = new HashMap<>();
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                node.maxEdge = Math.max(node.maxEdge, distance);
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * query와의 거리가 maxDistance 이하인 모든 단어를 방문
+     */
+    public void search(String query, int maxDistance, Visitor visitor) {
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            // 거리가 maxDistance + maxEdge를 넘으면 자식도 모두 범위 밖이므로 정확한 값이 필요 없음
+            int distance = metric.distance(query, node.word, maxDistance + node.maxEdge);
+            if (distance <= maxDistance) {
+                visitor.visit(node.word, distance);
+            }
+            if (node.children == null || distance > maxDistance + node.maxEdge) {
+                continue;
+            }
+            // 삼각부등식: |d(q, child) - d(q, node)| <= d(node, child)
+            int low = distance - maxDistance;
+            int high = distance + maxDistance;
+            for (Map.Entry<Integer, Node> entry : node.children.entrySet()) {
+                int edge = entry.getKey();
+                if (edge >= low && edge <= high) {
+                    stack.push(entry.getValue());
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * 편집 거리(Levenshtein distance) 계산 유틸리티
+ * - 오타수정 인덱스(BK-tree)의 거리 함수로 사용
+ * - 임계값(max)을 받아 대각선 주변 띠(band)만 계산하고, 한 행의 최솟값이 임계값을 넘으면 즉시 종료 (Ukkonen cutoff)
+ * - 스레드별 행 버퍼를 재사용하여 호출마다 행렬을 할당하지 않음
+ * - 한글 음절은 자모(초성/중성/종성) 단위로 비교 가능: '산' -> '신'은 중성 1개만 달라 1/3 비용
+ */
+package com.clone.backend.search;
+
+public final class EditDistance {
+
+    /** 삽입/삭제/일반 문자 치환 1회의 비용 (자모 1개 차이 = 1) */
+    public static final int UNIT = 3;
+
+    /** 임계값 없이 정확한 거리가 필요할 때 사용 */
+    public static final int UNBOUNDED = Integer.MAX_VALUE / 4;
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int JUNG_JONG_COUNT = 21 * 28;
+    private static final int JONG_COUNT = 28;
+
+    private static final ThreadLocal<int[][]> ROWS = ThreadLocal.withInitial(() -> new int[2][32]);
+
+    private EditDistance() {
+    }
+
+    /**
+     * Levenshtein distance 계산 (편집 횟수)
+     */
+    public static int levenshtein(String a, String b) {
+        return bounded(a, b, UNBOUNDED, false) / UNIT;
+    }
+
+    /**
+     * 임계값 이내의 편집 비용 계산 (UNIT 단위)
+     * @param maxCost 허용 최대 비용 (UNIT 단위, 예: 2자 오타 = 2 * UNIT)
+     * @param jamoAware true면 한글 음절 치환 비용을 다른 자모 개수(1~3)로 계산
+     * @return 편집 비용, 임계값을 넘으면 maxCost + 1
+     */
+    public static int bounded(CharSequence a, CharSequence b, int maxCost, boolean jamoAware) {
+        int n = a.length();
+        int m = b.length();
+        int exceeded = maxCost + 1;
+
+        // 길이 차이만큼은 반드시 삽입/삭제가 필요
+        if ((long) Math.abs(n - m) * UNIT > maxCost) return exceeded;
+        if (n == 0) return m * UNIT;
+        if (m == 0) return n * UNIT;
+
+        // 대각선에서 band 칸 이상 벗어나면 그 자체로 임계값 초과
+        int band = maxCost / UNIT;
+        int[][] rows = rows(m + 1);
+        int[] previous = rows[0];
+        int[] current = rows[1];
+
+        // 첫 번째 행 초기화
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j <= band ? j * UNIT : exceeded;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - band);
+            int to = Math.min(m, i + band);
+            current[from - 1] = from == 1 && i <= band ? i * UNIT : exceeded;
+            int rowMin = current[from - 1];
+            char ca = a.charAt(i - 1);
+
+            for (int j = from; j <= to; j++) {
+                int cost = Math.min(
+                        previous[j - 1] + substitutionCost(ca, b.charAt(j - 1), jamoAware), // substitution
+                        Math.min(
+                                current[j - 1] + UNIT, // insertion
+                                previous[j] + UNIT     // deletion
+                        ));
+                if (cost > exceeded) cost = exceeded;
+                current[j] = cost;
+                if (cost < rowMin) rowMin = cost;
+            }
+            if (to < m) {
+                current[to + 1] = exceeded;
+            }
+
+            // 이 행의 모든 값이 임계값을 넘으면 이후 행도 줄어들 수 없음
+            if (rowMin > maxCost) return exceeded;
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return Math.min(previous[m], exceeded);
+    }
+
+    /**
+     * 두 문자의 치환 비용: 같으면 0, 한글 음절끼리는 다른 자모 개수, 그 외 UNIT
+     */
+    static int substitutionCost(char x, char y, boolean jamoAware) {
+        if (x == y) return 0;
+        if (!jamoAware || !isHangulSyllable(x) || !isHangulSyllable(y)) return UNIT;
+
+        int ix = x - HANGUL_BASE;
+        int iy = y - HANGUL_BASE;
+        int cost = 0;
+        if (ix / JUNG_JONG_COUNT != iy / JUNG_JONG_COUNT) cost++;                          // 초성
+        if ((ix % JUNG_JONG_COUNT) / JONG_COUNT != (iy % JUNG_JONG_COUNT) / JONG_COUNT) cost++; // 중성
+        if (ix % JONG_COUNT != iy % JONG_COUNT) cost++;                                    // 종성
+        return cost;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static int[][] rows(int length) {
+        int[][] rows = ROWS.get();
+        if (rows[0].length < length) {
+            rows = new int[2][Math.max(length, rows[0].length * 2)];
+            ROWS.set(rows);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * 자동완성용 압축 트라이 (불변 객체)
+ * - 노드를 객체 대신 병렬 배열(라벨, 첫 자식 위치, 자식 수)로 저장하고 자식은 연속 배치
+ * - 각 노드에 하위 키워드 중 가중치 상위 K개를 미리 계산해 두어 조회는 O(접두어 길이 + K)
+ * - 키는 소문자로 비교하고, 결과는 원래 표기로 반환
+ */
+package com.clone.backend.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class KeywordTrie {
+
+    public static final KeywordTrie EMPTY = build(Collections.emptyMap(), 1);
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topOffsets; // 노드 i의 상위 K개: topPhrases[topOffsets[i] .. topOffsets[i + 1])
+    private final int[] topPhrases;
+    private final String[] phrases;
+
+    private KeywordTrie(char[] labels, int[] firstChild, int[] childCount, int[] topOffsets, int[] topPhrases,
+            String[] phrases) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topOffsets = topOffsets;
+        this.topPhrases = topPhrases;
+        this.phrases = phrases;
+    }
+
+    /**
+     * 트라이 생성
+     * @param weights 표시용 키워드 -> 가중치
+     * @param topK 노드별로 보관할 최대 자동완성 개수
+     */
+    public static KeywordTrie build(Map<String, Double> weights, int topK) {
+        // 1. 임시 트리 구성 (자식은 라벨 순으로 정렬)
+        BuildNode root = new BuildNode('\0');
+        String[] phrases = weights.keySet().toArray(new String[0]);
+        double[] phraseWeights = new double[phrases.length];
+        for (int id = 0; id < phrases.length; id++) {
+            phraseWeights[id] = weights.get(phrases[id]);
+            BuildNode node = root;
+            for (char c : phrases[id].toLowerCase(Locale.ROOT).toCharArray()) {
+                node = node.children.computeIfAbsent(c, BuildNode::new);
+            }
+            if (node.phrase < 0 || phraseWeights[id] > phraseWeights[node.phrase]) {
+                node.phrase = id;
+            }
+        }
+
+        // 2. 너비 우선으로 번호를 매겨 형제 노드가 연속되도록 배치
+        List<BuildNode> order = new ArrayList<>();
+        Deque<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            BuildNode node = queue.poll();
+            node.index = order.size();
+            order.add(node);
+            queue.addAll(node.children.values());
+        }
+
+        int size = order.size();
+        char[] labels = new char[size];
+        int[] firstChild = new int[size];
+        int[] childCount = new int[size];
+        for (BuildNode node : order) {
+            labels[node.index] = node.label;
+            childCount[node.index] = node.children.size();
+            firstChild[node.index] = node.children.isEmpty() ? -1 : node.children.firstEntry().getValue().index;
+        }
+
+        // 3. 리프부터 상위 K개 계산 (자식들의 상위 K개 + 자기 자신을 병합)
+        int[][] tops = new int[size][];
+        for (int i = size - 1; i >= 0; i--) {
+            BuildNode node = order.get(i);
+            List<Integer> candidates = new ArrayList<>();
+            if (node.phrase >= 0) {
+                candidates.add(node.phrase);
+            }
+            for (BuildNode child : node.children.values()) {
+                for (int phrase : tops[child.index]) {
+                    candidates.add(phrase);
+                }
+            }
+            candidates.sort((a, b) -> {
+                int byWeight = Double.compare(phraseWeights[b], phraseWeights[a]);
+                return byWeight != 0 ? byWeight : phrases[a].compareTo(phrases[b]);
+            });
+            int count = Math.min(topK, candidates.size());
+            tops[i] = new int[count];
+            for (int k = 0; k < count; k++) {
+                tops[i][k] = candidates.get(k);
+            }
+        }
+
+        int[] topOffsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            topOffsets[i + 1] = topOffsets[i] + tops[i].length;
+        }
+        int[] topPhrases = new int[topOffsets[size]];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(tops[i], 0, topPhrases, topOffsets[i], tops[i].length);
+        }
+
+        return new KeywordTrie(labels, firstChild, childCount, topOffsets, topPhrases, phrases);
+    }
+
+    /**
+     * 접두어로 시작하는 키워드를 가중치 순으로 최대 limit개 반환 (limit이 0 이하면 빈 목록)
+     */
+    public List<String> complete(String prefix, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        int node = 0;
+        for (char c : prefix.toLowerCase(Locale.ROOT).toCharArray()) {
+            node = findChild(node, c);
+            if (node < 0) {
+                return Collections.emptyList();
+            }
+        }
+
+        int from = topOffsets[node];
+        int to = Math.min(topOffsets[node + 1], from + limit);
+        List<String> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(phrases[topPhrases[i]]);
+        }
+        return result;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    private int findChild(int node, char c) {
+        int count = childCount[node];
+        if (count == 0) {
+            return -1;
+        }
+        int from = firstChild[node];
+        int index = Arrays.binarySearch(labels, from, from + count, c);
+        return index >= 0 ? index : -1;
+    }
+
+    private static final class BuildNode {
+        private final char label;
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private int phrase = -1;
+        private int index;
+
+        private BuildNode(char label) {
+            this.label = label;
+        }
+    }
+}
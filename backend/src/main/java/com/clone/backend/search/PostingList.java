@@ -0,0 +1,226 @@
+/**
+ * 압축 포스팅 리스트 (불변 객체)
+ * - 오름차순 문서 ID를 차분(delta) + 가변 길이 정수(varint)로 인코딩
+ * - 대부분의 간격이 1바이트로 표현되어 int[] 대비 약 1/4 크기
+ * - 변경 시 새 인스턴스를 반환 (copy-on-write)
+ *   인코딩된 본문은 그대로 공유하고 작은 추가/삭제 배열에만 반영하므로 변경 비용은 리스트 길이와 무관
+ *   추가/삭제가 MAX_PENDING을 넘거나 merged()를 호출하면(ProductSearchIndex 주기 병합) 본문에 합쳐 다시 인코딩
+ */
+package com.clone.backend.search;
+
+import java.util.Arrays;
+
+public final class PostingList {
+
+    // 본문에 합치기 전까지 보관하는 추가/삭제 문서 ID 수 상한
+    static final int MAX_PENDING = 64;
+
+    private static final int[] NONE = new int[0];
+
+    public static final PostingList EMPTY = new PostingList(new byte[0], 0, NONE, NONE);
+
+    private final byte[] data;
+    private final int encodedSize;
+    private final int[] added;   // 본문에 없는 문서 ID (오름차순)
+    private final int[] removed; // 본문에서 빠진 문서 ID (오름차순)
+
+    private PostingList(byte[] data, int encodedSize, int[] added, int[] removed) {
+        this.data = data;
+        this.encodedSize = encodedSize;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    /**
+     * 오름차순으로 정렬된 문서 ID 배열로부터 생성
+     */
+    public static PostingList of(int[] sortedDocIds, int length) {
+        byte[] buffer = new byte[length * 5];
+        int pos = 0;
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            pos = writeVarint(buffer, pos, sortedDocIds[i] - previous);
+            previous = sortedDocIds[i];
+        }
+        return new PostingList(Arrays.copyOf(buffer, pos), length, NONE, NONE);
+    }
+
+    public int size() {
+        return encodedSize + added.length - removed.length;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 본문에 아직 합치지 않은 추가/삭제가 있는지
+     */
+    public boolean hasPending() {
+        return added.length + removed.length > 0;
+    }
+
+    /**
+     * 문서 ID 추가 (이미 추가된 ID면 자기 자신 반환)
+     * 본문을 디코딩해 확인하지 않으므로 본문에 이미 있는 ID는 호출자가 넘기지 않음 (색인의 문서 맵 기준)
+     */
+    public PostingList with(int docId) {
+        int index = Arrays.binarySearch(removed, docId);
+        if (index >= 0) {
+            return withPending(added, delete(removed, index));
+        }
+        index = Arrays.binarySearch(added, docId);
+        if (index >= 0) {
+            return this;
+        }
+        return withPending(insert(added, -index - 1, docId), removed);
+    }
+
+    /**
+     * 문서 ID 제거 (이미 제거된 ID면 자기 자신 반환)
+     * 추가 배열에 없는 ID는 본문에 있는 것으로 보고 삭제 배열에 기록
+     */
+    public PostingList without(int docId) {
+        int index = Arrays.binarySearch(added, docId);
+        if (index >= 0) {
+            return withPending(delete(added, index), removed);
+        }
+        index = Arrays.binarySearch(removed, docId);
+        if (index >= 0) {
+            return this;
+        }
+        return withPending(added, insert(removed, -index - 1, docId));
+    }
+
+    /**
+     * 추가/삭제를 본문에 합쳐 다시 인코딩한 리스트 (합칠 것이 없으면 자기 자신)
+     */
+    public PostingList merged() {
+        if (!hasPending()) {
+            return this;
+        }
+        int[] docIds = toArray();
+        return of(docIds, docIds.length);
+    }
+
+    public int[] toArray() {
+        int[] docIds = new int[size()];
+        int count = 0;
+        Cursor cursor = cursor();
+        while (cursor.hasNext()) {
+            if (count == docIds.length) {
+                docIds = Arrays.copyOf(docIds, Math.max(8, count * 2));
+            }
+            docIds[count++] = cursor.next();
+        }
+        return count == docIds.length ? docIds : Arrays.copyOf(docIds, count);
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 순방향 디코딩 커서 (본문에서 삭제분을 건너뛰고 추가분을 병합)
+     */
+    public final class Cursor {
+        private int pos;
+        private int read;
+        private int current;
+        private int removedIndex;
+        private int addedIndex;
+        private int nextEncoded;
+
+        private Cursor() {
+            nextEncoded = readEncoded();
+        }
+
+        public boolean hasNext() {
+            return nextEncoded >= 0 || addedIndex < added.length;
+        }
+
+        public int next() {
+            if (addedIndex < added.length && (nextEncoded < 0 || added[addedIndex] <= nextEncoded)) {
+                int docId = added[addedIndex++];
+                if (docId == nextEncoded) {
+                    nextEncoded = readEncoded();
+                }
+                return docId;
+            }
+            int docId = nextEncoded;
+            nextEncoded = readEncoded();
+            return docId;
+        }
+
+        /**
+         * target 이상인 첫 문서 ID로 이동 (없으면 -1)
+         */
+        public int advance(int target) {
+            while (hasNext()) {
+                int docId = next();
+                if (docId >= target) {
+                    return docId;
+                }
+            }
+            return -1;
+        }
+
+        // 본문의 다음 문서 ID (삭제된 ID는 건너뜀, 없으면 -1)
+        private int readEncoded() {
+            while (read < encodedSize) {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[pos++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                current += value;
+                read++;
+
+                while (removedIndex < removed.length && removed[removedIndex] < current) {
+                    removedIndex++;
+                }
+                if (removedIndex < removed.length && removed[removedIndex] == current) {
+                    removedIndex++;
+                    continue;
+                }
+                return current;
+            }
+            return -1;
+        }
+    }
+
+    private PostingList withPending(int[] newAdded, int[] newRemoved) {
+        PostingList next = new PostingList(data, encodedSize, newAdded, newRemoved);
+        return newAdded.length + newRemoved.length > MAX_PENDING ? next.merged() : next;
+    }
+
+    private static int[] insert(int[] sorted, int index, int value) {
+        int[] result = new int[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(sorted, index, result, index + 1, sorted.length - index);
+        return result;
+    }
+
+    private static int[] delete(int[] sorted, int index) {
+        if (sorted.length == 1) {
+            return NONE;
+        }
+        int[] result = new int[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, index);
+        System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+        return result;
+    }
+
+    private static int writeVarint(byte[] buffer, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[pos++] = (byte) value;
+        return pos;
+    }
+}
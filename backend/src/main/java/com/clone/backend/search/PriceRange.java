@@ -0,0 +1,40 @@
+/**
+ * 가격대 필터 구간
+ * - 프론트엔드 priceRange 파라미터 값(under10k, 10k-50k, over50k)과 매핑
+ */
+package com.clone.backend.search;
+
+public enum PriceRange {
+    UNDER_10K("under10k"),
+    FROM_10K_TO_50K("10k-50k"),
+    OVER_50K("over50k");
+
+    private final String code;
+
+    PriceRange(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public static PriceRange of(int price) {
+        if (price < 10000) {
+            return UNDER_10K;
+        }
+        return price <= 50000 ? FROM_10K_TO_50K : OVER_50K;
+    }
+
+    /**
+     * 파라미터 값으로 조회 (null, "all" 또는 알 수 없는 값이면 null = 필터 없음)
+     */
+    public static PriceRange fromCode(String code) {
+        for (PriceRange range : values()) {
+            if (range.code.equals(code)) {
+                return range;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * 키셋 페이지네이션 커서
+ * - 마지막으로 반환한 상품의 (정렬 키, 상품 ID)를 담아 다음 페이지 시작 위치를 결정
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 전달
+ */
+package com.clone.backend.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class ProductCursor {
+
+    private final int key;
+    private final long id;
+
+    public ProductCursor(int key, long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    public int getKey() {
+        return key;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = key + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못되었거나 상품 ID가 범위(0 ~ Integer.MAX_VALUE)를 벗어난 커서
+     */
+    public static ProductCursor decode(String cursor) {
+        int key;
+        long id;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            key = Integer.parseInt(raw.substring(0, separator));
+            id = Long.parseLong(raw.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        // 색인은 상품 ID를 int 문서 ID로 사용
+        if (id < 0 || id > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return new ProductCursor(key, id);
+    }
+}
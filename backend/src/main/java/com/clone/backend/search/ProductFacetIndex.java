@@ -0,0 +1,484 @@
+/**
+ * 상품 패싯 인덱스 (Roaring 압축 비트맵)
+ * - 카테고리별, 가격대별, 타임딜/베스트 여부별로 상품 ID 비트맵을 유지
+ * - 필터 조합은 비트맵 AND 연산으로 계산하여 DB 조회/전체 리스트 스트림 없이 대상 상품 결정
+ * - 사이드바용 패싯 개수는 "자기 자신을 제외한 나머지 필터"와의 AND 카디널리티로 계산
+ * - 정렬 기준별로 (정렬 키, 상품 ID) 순 정렬 배열을 유지하여 키셋 페이지네이션 제공
+ *   상품 변경 시 정렬 배열은 그대로 두고 변경된 상품 ID만 기록 - 조회 시 배열에서 그 상품들을 건너뛰고
+ *   현재 값으로 따로 정렬해 병합하며, 정렬 배열은 주기적으로 백그라운드에서 다시 만들어 교체
+ * - 변경 피드로 받은 상품은 해당 상품의 비트만 지우고 다시 설정
+ */
+package com.clone.backend.search;
+
+import com.clone.backend.catalog.CatalogIndex;
+import com.clone.backend.model.Product;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class ProductFacetIndex implements CatalogIndex {
+
+    /**
+     * 필터 조건 (null 항목은 조건 없음)
+     */
+    public static final class Filter {
+        private final String category;
+        private final PriceRange priceRange;
+        private final Boolean timeDeal;
+        private final Boolean best;
+
+        public Filter(String category, PriceRange priceRange, Boolean timeDeal, Boolean best) {
+            this.category = "all".equals(category) ? null : category;
+            this.priceRange = priceRange;
+            this.timeDeal = timeDeal;
+            this.best = best;
+        }
+
+        public static Filter of(String category, String priceRange) {
+            return new Filter(category, PriceRange.fromCode(priceRange), null, null);
+        }
+    }
+
+    /**
+     * 페이지 조회 결과 (상품 ID와 다음 페이지 커서, 마지막 페이지면 커서 null)
+     */
+    public static final class Page {
+        private final List<Long> ids;
+        private final ProductCursor next;
+
+        public Page(List<Long> ids, ProductCursor next) {
+            this.ids = ids;
+            this.next = next;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public ProductCursor getNext() {
+            return next;
+        }
+    }
+
+    /**
+     * 상품별 색인 값 (변경/삭제 시 기존 비트를 지우고, 정렬 키를 계산하기 위해 보관)
+     */
+    private static final class Entry {
+        private final String category;
+        private final PriceRange priceRange;
+        private final boolean timeDeal;
+        private final boolean best;
+        private final int price;
+        private final int discountRate;
+        private final Integer rank;
+
+        private Entry(Product product) {
+            this.category = product.getCategory();
+            this.priceRange = PriceRange.of(product.getPrice());
+            this.timeDeal = product.isTimeDeal();
+            this.best = product.isBest();
+            this.price = product.getPrice();
+            this.discountRate = product.getDiscountRate();
+            this.rank = product.getRank();
+        }
+    }
+
+    /**
+     * 정렬 배열 묶음과 배열을 만든 뒤 변경된 상품 ID (changed는 쓰기 잠금 안에서만 수정)
+     */
+    private static final class SortedViews {
+        private final Map<ProductSort, long[]> views = new ConcurrentHashMap<>();
+        private final RoaringBitmap changed = new RoaringBitmap();
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<PriceRange, RoaringBitmap> byPriceRange = new EnumMap<>(PriceRange.class);
+    private final RoaringBitmap timeDeals = new RoaringBitmap();
+    private final RoaringBitmap bests = new RoaringBitmap();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    // 정렬 기준 -> (정렬 키 << 32 | 상품 ID) 오름차순 배열 (기준별 첫 조회 시 생성, refreshViews에서 교체)
+    private volatile SortedViews sortedViews = new SortedViews();
+
+    public ProductFacetIndex() {
+        for (PriceRange range : PriceRange.values()) {
+            byPriceRange.put(range, new RoaringBitmap());
+        }
+    }
+
+    /**
+     * 전체 상품으로 재구성
+     */
+    @Override
+    public void rebuild(Collection<Product> products) {
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            byCategory.clear();
+            byPriceRange.values().forEach(RoaringBitmap::clear);
+            timeDeals.clear();
+            bests.clear();
+            entries.clear();
+            sortedViews = new SortedViews();
+            for (Product product : products) {
+                index(product);
+            }
+            runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 추가 또는 변경 반영
+     */
+    @Override
+    public void upsert(Product product) {
+        if (product.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int docId = Math.toIntExact(product.getId());
+            unindex(docId);
+            index(product);
+            sortedViews.changed.add(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 삭제 반영
+     */
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            int docId = Math.toIntExact(productId);
+            unindex(docId);
+            sortedViews.changed.add(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 조건을 모두 만족하는 상품 ID 비트맵 (호출자가 자유롭게 수정 가능한 복사본)
+     */
+    public RoaringBitmap filter(Filter filter) {
+        lock.readLock().lock();
+        try {
+            return apply(filter, true, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키셋 페이지 조회
+     * - ID순은 비트맵 자체가 정렬되어 있으므로 커서 위치로 바로 이동
+     * - 그 외 정렬은 결과가 작으면 결과만 정렬하고, 크면 미리 정렬된 배열을 커서 위치부터 훑음
+     *   (배열을 만든 뒤 변경된 상품은 배열에서 건너뛰고 현재 값으로 정렬한 목록과 병합)
+     * @param matched 필터 결과 비트맵
+     * @param after 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     */
+    public Page page(RoaringBitmap matched, ProductSort sort, ProductCursor after, int limit) {
+        if (sort == ProductSort.ID || sort == ProductSort.RELEVANCE) {
+            return pageById(matched, after, limit);
+        }
+
+        lock.readLock().lock();
+        try {
+            SortedViews current = sortedViews;
+            long[] view = current.views.computeIfAbsent(sort, this::buildView);
+            int cardinality = matched.getCardinality();
+            boolean smallResult = (long) cardinality * 16 < view.length;
+
+            long[] ordered;
+            long[] overlay;
+            int orderedLength;
+            int[] overlayLength = { 0 };
+            if (smallResult) {
+                ordered = sortedKeys(matched, sort);
+                orderedLength = ordered.length;
+                overlay = new long[0];
+            } else {
+                ordered = view;
+                orderedLength = view.length;
+                RoaringBitmap changed = RoaringBitmap.and(current.changed, matched);
+                long[] changedKeys = new long[changed.getCardinality()];
+                changed.forEach((int docId) -> {
+                    Entry entry = entries.get(docId);
+                    if (entry != null) {
+                        changedKeys[overlayLength[0]++] = pack(sortKey(entry, docId, sort), docId);
+                    }
+                });
+                Arrays.sort(changedKeys, 0, overlayLength[0]);
+                overlay = changedKeys;
+            }
+
+            int i = startAfter(ordered, orderedLength, after);
+            int j = startAfter(overlay, overlayLength[0], after);
+            List<Long> ids = new ArrayList<>(Math.min(limit, cardinality));
+            long last = 0;
+            boolean hasNext = false;
+            while (true) {
+                while (i < orderedLength && !smallResult
+                        && (!matched.contains((int) ordered[i]) || current.changed.contains((int) ordered[i]))) {
+                    i++;
+                }
+                long candidate;
+                if (i < orderedLength && (j >= overlayLength[0] || ordered[i] < overlay[j])) {
+                    candidate = ordered[i++];
+                } else if (j < overlayLength[0]) {
+                    candidate = overlay[j++];
+                } else {
+                    break;
+                }
+                // 한 건 더 있을 때만 다음 커서 발급 (마지막 페이지 뒤에 빈 페이지가 생기지 않게)
+                if (ids.size() == limit) {
+                    hasNext = true;
+                    break;
+                }
+                ids.add((long) (int) candidate);
+                last = candidate;
+            }
+            ProductCursor next = hasNext ? new ProductCursor((int) (last >> 32), (int) last) : null;
+            return new Page(ids, next);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 정렬 배열을 만든 뒤 변경이 있었으면 새로 만들어 교체
+     * (읽기 잠금으로 조회는 계속 처리, 그동안 변경 반영만 대기 - 조회 스레드는 배열을 다시 만들지 않음)
+     */
+    @Scheduled(fixedDelayString = "${search.facet.view-refresh-interval-ms:5000}")
+    public void refreshViews() {
+        lock.readLock().lock();
+        try {
+            SortedViews current = sortedViews;
+            if (current.changed.isEmpty()) {
+                return;
+            }
+            SortedViews refreshed = new SortedViews();
+            for (ProductSort sort : current.views.keySet()) {
+                refreshed.views.put(sort, buildView(sort));
+            }
+            sortedViews = refreshed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사이드바 패싯 개수
+     * - categories / priceRanges: 해당 항목을 선택했을 때의 결과 수 (나머지 필터는 유지)
+     * - timeDeal / best / total: 현재 필터 결과 중 개수
+     * @param candidates 검색 결과 등 추가로 제한할 상품 ID (null이면 전체)
+     */
+    public Map<String, Object> counts(Filter filter, RoaringBitmap candidates) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap withoutCategory = restrict(apply(filter, false, true), candidates);
+            Map<String, Integer> categories = new TreeMap<>();
+            byCategory.forEach((category, bitmap) -> {
+                int count = RoaringBitmap.andCardinality(withoutCategory, bitmap);
+                if (count > 0) {
+                    categories.put(category, count);
+                }
+            });
+
+            RoaringBitmap withoutPrice = restrict(apply(filter, true, false), candidates);
+            Map<String, Integer> priceRanges = new LinkedHashMap<>();
+            byPriceRange.forEach((range, bitmap) ->
+                    priceRanges.put(range.getCode(), RoaringBitmap.andCardinality(withoutPrice, bitmap)));
+
+            RoaringBitmap matched = restrict(apply(filter, true, true), candidates);
+            Map<String, Object> counts = new LinkedHashMap<>();
+            counts.put("total", matched.getCardinality());
+            counts.put("categories", categories);
+            counts.put("priceRanges", priceRanges);
+            counts.put("timeDeal", RoaringBitmap.andCardinality(matched, timeDeals));
+            counts.put("best", RoaringBitmap.andCardinality(matched, bests));
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap apply(Filter filter, boolean useCategory, boolean usePriceRange) {
+        RoaringBitmap result = all.clone();
+        if (useCategory && filter.category != null) {
+            result.and(byCategory.getOrDefault(filter.category, new RoaringBitmap()));
+        }
+        if (usePriceRange && filter.priceRange != null) {
+            result.and(byPriceRange.get(filter.priceRange));
+        }
+        if (filter.timeDeal != null) {
+            if (filter.timeDeal) {
+                result.and(timeDeals);
+            } else {
+                result.andNot(timeDeals);
+            }
+        }
+        if (filter.best != null) {
+            if (filter.best) {
+                result.and(bests);
+            } else {
+                result.andNot(bests);
+            }
+        }
+        return result;
+    }
+
+    private Page pageById(RoaringBitmap matched, ProductCursor after, int limit) {
+        PeekableIntIterator iterator = matched.getIntIterator();
+        if (after != null) {
+            iterator.advanceIfNeeded(Math.toIntExact(after.getId() + 1));
+        }
+        List<Long> ids = new ArrayList<>(limit);
+        int last = 0;
+        while (iterator.hasNext() && ids.size() < limit) {
+            last = iterator.next();
+            ids.add((long) last);
+        }
+        ProductCursor next = iterator.hasNext() ? new ProductCursor(last, last) : null;
+        return new Page(ids, next);
+    }
+
+    /**
+     * 필터 결과만 현재 값으로 정렬 (결과가 작을 때)
+     */
+    private long[] sortedKeys(RoaringBitmap matched, ProductSort sort) {
+        long[] keys = new long[matched.getCardinality()];
+        int[] count = { 0 };
+        matched.forEach((int docId) -> {
+            Entry entry = entries.get(docId);
+            if (entry != null) {
+                keys[count[0]++] = pack(sortKey(entry, docId, sort), docId);
+            }
+        });
+        long[] sorted = count[0] == keys.length ? keys : Arrays.copyOf(keys, count[0]);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * 커서 바로 다음 위치 (커서가 없으면 0)
+     */
+    private static int startAfter(long[] sorted, int length, ProductCursor after) {
+        if (after == null) {
+            return 0;
+        }
+        int position = Arrays.binarySearch(sorted, 0, length, pack(after.getKey(), after.getId()));
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private long[] buildView(ProductSort sort) {
+        long[] view = new long[entries.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Entry> entry : entries.entrySet()) {
+            view[i++] = pack(sortKey(entry.getValue(), entry.getKey(), sort), entry.getKey());
+        }
+        Arrays.sort(view);
+        return view;
+    }
+
+    private static int sortKey(Entry entry, int docId, ProductSort sort) {
+        switch (sort) {
+            case PRICE:
+                return entry.price;
+            case PRICE_DESC:
+                return -entry.price;
+            case DISCOUNT_RATE:
+                return entry.discountRate;
+            case DISCOUNT_RATE_DESC:
+                return -entry.discountRate;
+            case RANK:
+                return entry.rank != null ? entry.rank : Integer.MAX_VALUE;
+            default:
+                return docId;
+        }
+    }
+
+    /**
+     * (정렬 키, 상품 ID)를 long 하나로 합쳐 정렬 비교를 정수 비교로 처리 (상품 ID는 양수)
+     */
+    private static long pack(int key, long docId) {
+        return ((long) key << 32) | (docId & 0xFFFFFFFFL);
+    }
+
+    private static RoaringBitmap restrict(RoaringBitmap bitmap, RoaringBitmap candidates) {
+        if (candidates != null) {
+            bitmap.and(candidates);
+        }
+        return bitmap;
+    }
+
+    private void index(Product product) {
+        if (product.getId() == null) {
+            return;
+        }
+        int docId = Math.toIntExact(product.getId());
+        Entry entry = new Entry(product);
+        entries.put(docId, entry);
+        all.add(docId);
+        if (entry.category != null) {
+            byCategory.computeIfAbsent(entry.category, c -> new RoaringBitmap()).add(docId);
+        }
+        byPriceRange.get(entry.priceRange).add(docId);
+        if (entry.timeDeal) {
+            timeDeals.add(docId);
+        }
+        if (entry.best) {
+            bests.add(docId);
+        }
+    }
+
+    private void unindex(int docId) {
+        Entry entry = entries.remove(docId);
+        if (entry == null) {
+            return;
+        }
+        all.remove(docId);
+        if (entry.category != null) {
+            RoaringBitmap bitmap = byCategory.get(entry.category);
+            bitmap.remove(docId);
+            if (bitmap.isEmpty()) {
+                byCategory.remove(entry.category);
+            }
+        }
+        byPriceRange.get(entry.priceRange).remove(docId);
+        timeDeals.remove(docId);
+        bests.remove(docId);
+    }
+
+    private void runOptimize() {
+        all.runOptimize();
+        byCategory.values().forEach(RoaringBitmap::runOptimize);
+        byPriceRange.values().forEach(RoaringBitmap::runOptimize);
+        timeDeals.runOptimize();
+        bests.runOptimize();
+    }
+}
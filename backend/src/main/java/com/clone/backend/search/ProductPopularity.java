@@ -0,0 +1,26 @@
+/**
+ * 상품 인기도 점수 (0~1)
+ * - 베스트 순위가 높을수록, 타임딜/할인율이 클수록 높음
+ * - 검색 결과 정렬과 자동완성 가중치에 공통으로 사용
+ */
+package com.clone.backend.search;
+
+import com.clone.backend.model.Product;
+
+public final class ProductPopularity {
+
+    private ProductPopularity() {
+    }
+
+    public static double of(Product product) {
+        double score = 0;
+        if (product.isBest() && product.getRank() != null && product.getRank() > 0) {
+            score += 0.6 / Math.sqrt(product.getRank());
+        }
+        if (product.isTimeDeal()) {
+            score += 0.2;
+        }
+        score += 0.2 * Math.min(100, Math.max(0, product.getDiscountRate())) / 100.0;
+        return score;
+    }
+}
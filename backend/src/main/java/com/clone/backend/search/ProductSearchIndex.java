@@ -0,0 +1,356 @@
+/**
+ * 상품 검색 엔진 (In-memory 역색인)
+ * - 상품명을 음절 uni/bigram으로 토큰화하여 압축 포스팅 리스트에 색인
+ * - 검색어의 모든 n-gram 포스팅을 교집합한 뒤 부분 문자열 일치로 최종 확인
+ * - 관련도(일치 위치, 단어 일치, 상품명 대비 비중) + 인기도(베스트 순위, 타임딜, 할인율)로 정렬
+ * - LIKE '%검색어%' 순차 탐색을 대체하여 카탈로그 크기와 무관하게 후보만 탐색
+ * - 포스팅 리스트는 CatalogChangeFeed가 전달하는 변경 상품의 n-gram만 갱신
+ *   (변경은 포스팅 리스트의 작은 추가/삭제 배열에만 반영하고, 주기적으로 잠금 밖에서 본문에 병합해 교체)
+ */
+package com.clone.backend.search;
+
+import com.clone.backend.catalog.CatalogIndex;
+import com.clone.backend.model.Product;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class ProductSearchIndex implements CatalogIndex {
+
+    private static final double RELEVANCE_WEIGHT = 0.7;
+    private static final double POPULARITY_WEIGHT = 0.3;
+
+    /**
+     * 색인된 상품 정보 (정규화된 상품명 용어, 색인 n-gram, 인기도)
+     */
+    private static final class Document {
+        private final List<String> terms;
+        private final int[] grams;
+        private final String text;
+        private final double popularity;
+
+        private Document(List<String> terms, double popularity) {
+            this.terms = terms;
+            this.grams = indexGrams(terms);
+            this.text = String.join(" ", terms);
+            this.popularity = popularity;
+        }
+    }
+
+    private static final class Hit {
+        private final long productId;
+        private final double score;
+
+        private Hit(long productId, double score) {
+            this.productId = productId;
+            this.score = score;
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    // 본문에 합치지 않은 추가/삭제가 있는 n-gram
+    private final Set<Integer> pendingGrams = new HashSet<>();
+
+    /**
+     * 전체 상품으로 인덱스 재구성 (포스팅 리스트를 한 번에 정렬/인코딩)
+     */
+    @Override
+    public void rebuild(Collection<Product> products) {
+        Map<Integer, Document> newDocuments = new HashMap<>();
+        Map<Integer, List<Integer>> builders = new HashMap<>();
+        for (Product product : products) {
+            if (product.getId() == null || product.getName() == null) {
+                continue;
+            }
+            int docId = Math.toIntExact(product.getId());
+            Document document = toDocument(product);
+            newDocuments.put(docId, document);
+            for (int gram : document.grams) {
+                builders.computeIfAbsent(gram, g -> new ArrayList<>()).add(docId);
+            }
+        }
+
+        Map<Integer, PostingList> newPostings = new HashMap<>();
+        for (Map.Entry<Integer, List<Integer>> entry : builders.entrySet()) {
+            int[] docIds = entry.getValue().stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+            newPostings.put(entry.getKey(), PostingList.of(docIds, docIds.length));
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            postings.putAll(newPostings);
+            documents.clear();
+            documents.putAll(newDocuments);
+            pendingGrams.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 추가 또는 변경 반영
+     */
+    @Override
+    public void upsert(Product product) {
+        if (product.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int docId = Math.toIntExact(product.getId());
+            unindex(docId);
+            if (product.getName() == null) {
+                return;
+            }
+            Document document = toDocument(product);
+            documents.put(docId, document);
+            for (int gram : document.grams) {
+                PostingList list = postings.getOrDefault(gram, PostingList.EMPTY);
+                replace(gram, list.with(docId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 삭제 반영
+     */
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            unindex(Math.toIntExact(productId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 추가/삭제가 쌓인 포스팅 리스트를 본문에 병합
+     * (병합은 잠금 밖에서 하고, 그동안 다시 바뀌지 않은 리스트만 교체)
+     */
+    @Scheduled(fixedDelayString = "${search.index.merge-interval-ms:5000}")
+    public void mergePending() {
+        Map<Integer, PostingList> pending = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (int gram : pendingGrams) {
+                PostingList list = postings.get(gram);
+                if (list != null) {
+                    pending.put(gram, list);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, PostingList> merged = new HashMap<>();
+        pending.forEach((gram, list) -> merged.put(gram, list.merged()));
+
+        lock.writeLock().lock();
+        try {
+            merged.forEach((gram, list) -> {
+                if (postings.get(gram) == pending.get(gram)) {
+                    postings.put(gram, list);
+                    pendingGrams.remove(gram);
+                }
+            });
+            pendingGrams.removeIf(gram -> !postings.containsKey(gram));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 상품이 하나라도 있는지 확인
+     */
+    public boolean hasMatch(String query) {
+        List<String> queryTerms = ProductTextAnalyzer.terms(query);
+        if (queryTerms.isEmpty()) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            for (int docId : candidates(queryTerms)) {
+                if (matchesAll(documents.get(docId), queryTerms)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 용어를 포함하는 상품 ID를 관련도 + 인기도 순으로 반환
+     */
+    public List<Long> search(String query) {
+        List<String> queryTerms = ProductTextAnalyzer.terms(query);
+        if (queryTerms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int docId : candidates(queryTerms)) {
+                Document document = documents.get(docId);
+                if (!matchesAll(document, queryTerms)) {
+                    continue;
+                }
+                double score = RELEVANCE_WEIGHT * relevance(document, queryTerms)
+                        + POPULARITY_WEIGHT * document.popularity;
+                hits.add(new Hit(docId, score));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort((a, b) -> {
+            int byScore = Double.compare(b.score, a.score);
+            return byScore != 0 ? byScore : Long.compare(a.productId, b.productId);
+        });
+
+        List<Long> productIds = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            productIds.add(hit.productId);
+        }
+        return productIds;
+    }
+
+    /**
+     * 모든 검색어 n-gram 포스팅 리스트의 교집합 (가장 짧은 리스트부터 시작)
+     */
+    private int[] candidates(List<String> queryTerms) {
+        List<PostingList> lists = new ArrayList<>();
+        for (String term : queryTerms) {
+            for (int gram : ProductTextAnalyzer.queryGrams(term)) {
+                PostingList list = postings.get(gram);
+                if (list == null || list.isEmpty()) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+        }
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        int[] result = lists.get(0).toArray();
+        int resultSize = result.length;
+        for (int i = 1; i < lists.size() && resultSize > 0; i++) {
+            PostingList.Cursor cursor = lists.get(i).cursor();
+            int kept = 0;
+            int current = -1;
+            for (int j = 0; j < resultSize; j++) {
+                int docId = result[j];
+                if (current < docId) {
+                    current = cursor.advance(docId);
+                    if (current < 0) {
+                        break;
+                    }
+                }
+                if (current == docId) {
+                    result[kept++] = docId;
+                }
+            }
+            resultSize = kept;
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    private boolean matchesAll(Document document, List<String> queryTerms) {
+        if (document == null) {
+            return false;
+        }
+        for (String term : queryTerms) {
+            if (!document.text.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 관련도 (0~1)
+     * - 검색어가 상품명 앞쪽에 있을수록, 단어 전체와 일치할수록 높음
+     * - 상품명에서 검색어가 차지하는 비중이 클수록 높음 (짧고 정확한 상품명 우선)
+     */
+    private double relevance(Document document, List<String> queryTerms) {
+        double positionScore = 0;
+        double exactScore = 0;
+        int matchedLength = 0;
+        for (String term : queryTerms) {
+            int position = document.text.indexOf(term);
+            positionScore += 1.0 / (1 + position);
+            if (document.terms.contains(term)) {
+                exactScore += 1;
+            }
+            matchedLength += term.length();
+        }
+        double coverage = Math.min(1.0, (double) matchedLength / document.text.replace(" ", "").length());
+        int termCount = queryTerms.size();
+        return 0.4 * (positionScore / termCount) + 0.3 * (exactScore / termCount) + 0.3 * coverage;
+    }
+
+    private Document toDocument(Product product) {
+        return new Document(ProductTextAnalyzer.terms(product.getName()), ProductPopularity.of(product));
+    }
+
+    private void unindex(int docId) {
+        Document document = documents.remove(docId);
+        if (document == null) {
+            return;
+        }
+        for (int gram : document.grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                continue;
+            }
+            replace(gram, list.without(docId));
+        }
+    }
+
+    /**
+     * 상품명 용어들의 색인 n-gram (중복 제거)
+     * 같은 n-gram이 두 번 나오면 포스팅 리스트에 같은 문서를 두 번 추가하게 되어 size()가 실제보다 커짐
+     */
+    static int[] indexGrams(List<String> terms) {
+        return terms.stream()
+                .flatMapToInt(term -> Arrays.stream(ProductTextAnalyzer.indexGrams(term)))
+                .distinct()
+                .toArray();
+    }
+
+    private void replace(int gram, PostingList list) {
+        if (list.isEmpty()) {
+            postings.remove(gram);
+            pendingGrams.remove(gram);
+            return;
+        }
+        postings.put(gram, list);
+        if (list.hasPending()) {
+            pendingGrams.add(gram);
+        } else {
+            pendingGrams.remove(gram);
+        }
+    }
+}
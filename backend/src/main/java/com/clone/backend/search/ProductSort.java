@@ -0,0 +1,41 @@
+/**
+ * 상품 목록 정렬 기준
+ * - sort 파라미터 값과 매핑 ("-" 접두어는 내림차순)
+ * - 모든 정렬은 상품 ID를 보조 키로 사용하여 순서가 항상 고정됨 (키셋 페이지네이션 전제)
+ */
+package com.clone.backend.search;
+
+public enum ProductSort {
+    RELEVANCE("relevance"),
+    ID("id"),
+    PRICE("price"),
+    PRICE_DESC("-price"),
+    DISCOUNT_RATE("discountRate"),
+    DISCOUNT_RATE_DESC("-discountRate"),
+    RANK("rank");
+
+    private final String code;
+
+    ProductSort(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 파라미터 값으로 조회 (null이면 null, 알 수 없는 값이면 IllegalArgumentException)
+     */
+    public static ProductSort fromCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        for (ProductSort sort : values()) {
+            if (sort.code.equals(code)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort: " + code);
+    }
+}
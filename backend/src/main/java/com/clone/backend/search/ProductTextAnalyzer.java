@@ -0,0 +1,101 @@
+/**
+ * 상품명 텍스트 분석 유틸리티
+ * - 상품명에서 검색 키워드 추출 (괄호/특수문자 제거 후 공백 분리)
+ * - 검색용 정규화 및 문자 n-gram(uni/bigram) 토큰화 (한글은 형태소 분석 없이 음절 단위로 처리)
+ * - 오타수정/검색 인덱스가 같은 규칙으로 키워드를 만들도록 한 곳에 모음
+ */
+package com.clone.backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class ProductTextAnalyzer {
+
+    private static final Pattern BRACKETS = Pattern.compile("[\\[\\]()]");
+    private static final Pattern SPECIAL_CHARS = Pattern.compile("[^가-힣a-zA-Z0-9\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** 너무 짧은 키워드는 오타수정 대상에서 제외 */
+    public static final int MIN_KEYWORD_LENGTH = 2;
+
+    private ProductTextAnalyzer() {
+    }
+
+    /**
+     * 상품명에서 키워드 추출 (공백, 특수문자로 분리)
+     * 예: "[농심] 신라면 (5개입)" -> [농심, 신라면, 5개입]
+     */
+    public static List<String> extractKeywords(String productName) {
+        List<String> keywords = new ArrayList<>();
+        if (productName == null) {
+            return keywords;
+        }
+
+        String cleaned = SPECIAL_CHARS.matcher(BRACKETS.matcher(productName).replaceAll(" ")).replaceAll(" ");
+        for (String keyword : WHITESPACE.split(cleaned)) {
+            if (keyword.length() >= MIN_KEYWORD_LENGTH) {
+                keywords.add(keyword);
+            }
+        }
+        return keywords;
+    }
+
+    /**
+     * 검색용 정규화: 소문자 변환, 괄호/특수문자 제거 후 공백 분리
+     * 예: "[삼성] Galaxy 버즈" -> [삼성, galaxy, 버즈]
+     */
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String cleaned = SPECIAL_CHARS.matcher(BRACKETS.matcher(text).replaceAll(" ")).replaceAll(" ");
+        for (String term : WHITESPACE.split(cleaned.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 용어의 n-gram 키: 한 글자면 unigram, 그 이상이면 bigram
+     */
+    public static int[] queryGrams(String term) {
+        if (term.length() == 1) {
+            return new int[] { unigram(term.charAt(0)) };
+        }
+        int[] grams = new int[term.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = bigram(term.charAt(i), term.charAt(i + 1));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인용 n-gram 키: 모든 unigram과 bigram (한 글자 검색어도 찾을 수 있도록)
+     */
+    public static int[] indexGrams(String term) {
+        int[] grams = new int[term.length() * 2 - 1];
+        int count = 0;
+        for (int i = 0; i < term.length(); i++) {
+            grams[count++] = unigram(term.charAt(i));
+            if (i + 1 < term.length()) {
+                grams[count++] = bigram(term.charAt(i), term.charAt(i + 1));
+            }
+        }
+        return grams;
+    }
+
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char first, char second) {
+        // 첫 글자가 상위 16비트에 위치하므로 unigram 키(상위 16비트 0)와 충돌하지 않음
+        return (first << 16) | second;
+    }
+}
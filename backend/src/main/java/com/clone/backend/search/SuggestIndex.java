@@ -0,0 +1,175 @@
+/**
+ * 검색어 자동완성 인덱스
+ * - 상품명 키워드와 인접 키워드 쌍(예: "게이밍 모니터")을 자동완성 후보로 사용
+ * - 후보 가중치 = 해당 후보를 포함한 상품 수 + 상품 인기도 합
+ * - 조회는 불변 KeywordTrie(volatile 참조)에서 잠금 없이 수행
+ * - 상품 변경(CatalogChangeFeed)은 가중치 맵에만 반영하고, 트라이는 주기적으로 백그라운드에서 재생성
+ *   (조회 스레드는 재생성을 기다리지 않고 그동안 이전 트라이로 응답, 변경이 없으면 재생성하지 않음)
+ */
+package com.clone.backend.search;
+
+import com.clone.backend.catalog.CatalogIndex;
+import com.clone.backend.model.Product;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class SuggestIndex implements CatalogIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // 후보 -> [가중치 합, 포함 상품 수]
+    private final Map<String, double[]> weights = new HashMap<>();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+
+    private volatile KeywordTrie trie = KeywordTrie.EMPTY;
+    // 가중치 맵 변경 횟수와 현재 트라이에 반영된 횟수 (this로 보호)
+    private long generation;
+    private long trieGeneration;
+
+    private static final class Contribution {
+        private final List<String> phrases;
+        private final double weight;
+
+        private Contribution(List<String> phrases, double weight) {
+            this.phrases = phrases;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 전체 상품으로 재구성
+     */
+    @Override
+    public synchronized void rebuild(Collection<Product> products) {
+        weights.clear();
+        contributions.clear();
+        for (Product product : products) {
+            add(product);
+        }
+        trie = KeywordTrie.build(snapshot(), MAX_SUGGESTIONS);
+        trieGeneration = ++generation;
+    }
+
+    /**
+     * 상품 추가 또는 변경 반영
+     */
+    @Override
+    public synchronized void upsert(Product product) {
+        if (product.getId() == null) {
+            return;
+        }
+        subtract(product.getId());
+        add(product);
+        generation++;
+    }
+
+    /**
+     * 상품 삭제 반영
+     */
+    @Override
+    public synchronized void remove(Long productId) {
+        subtract(productId);
+        generation++;
+    }
+
+    /**
+     * 접두어 자동완성 (가중치 순)
+     */
+    public List<String> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return new ArrayList<>();
+        }
+        return trie.complete(prefix.strip(), Math.max(0, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    /**
+     * 변경이 있으면 트라이 재생성 (가중치 사본만 잠금 안에서 만들고 생성은 잠금 밖에서 수행)
+     */
+    @Scheduled(fixedDelayString = "${search.suggest.refresh-interval-ms:1000}")
+    public void refresh() {
+        Map<String, Double> snapshot;
+        long snapshotGeneration;
+        synchronized (this) {
+            if (generation == trieGeneration) {
+                return;
+            }
+            snapshot = snapshot();
+            snapshotGeneration = generation;
+        }
+
+        KeywordTrie built = KeywordTrie.build(snapshot, MAX_SUGGESTIONS);
+        synchronized (this) {
+            // 생성 중에 전체 재구성이 더 최신 트라이를 넣었으면 버림
+            if (snapshotGeneration > trieGeneration) {
+                trie = built;
+                trieGeneration = snapshotGeneration;
+            }
+        }
+    }
+
+    private Map<String, Double> snapshot() {
+        Map<String, Double> snapshot = new HashMap<>();
+        weights.forEach((phrase, value) -> snapshot.put(phrase, value[0]));
+        return snapshot;
+    }
+
+    private void add(Product product) {
+        if (product.getId() == null || product.getName() == null) {
+            return;
+        }
+        List<String> phrases = phrases(product.getName());
+        double weight = 1 + ProductPopularity.of(product);
+        contributions.put(product.getId(), new Contribution(phrases, weight));
+        for (String phrase : phrases) {
+            double[] value = weights.computeIfAbsent(phrase, p -> new double[2]);
+            value[0] += weight;
+            value[1] += 1;
+        }
+    }
+
+    private void subtract(Long productId) {
+        Contribution contribution = contributions.remove(productId);
+        if (contribution == null) {
+            return;
+        }
+        for (String phrase : contribution.phrases) {
+            double[] value = weights.get(phrase);
+            if (value == null) {
+                continue;
+            }
+            value[0] -= contribution.weight;
+            value[1] -= 1;
+            if (value[1] <= 0) {
+                weights.remove(phrase);
+            }
+        }
+    }
+
+    /**
+     * 자동완성 후보: 키워드 + 인접 키워드 쌍 (상품 하나에서 중복 제거)
+     */
+    private static List<String> phrases(String productName) {
+        List<String> keywords = ProductTextAnalyzer.extractKeywords(productName);
+        List<String> phrases = new ArrayList<>();
+        for (int i = 0; i < keywords.size(); i++) {
+            addDistinct(phrases, keywords.get(i));
+            if (i + 1 < keywords.size()) {
+                addDistinct(phrases, keywords.get(i) + " " + keywords.get(i + 1));
+            }
+        }
+        return phrases;
+    }
+
+    private static void addDistinct(List<String> phrases, String phrase) {
+        if (!phrases.contains(phrase)) {
+            phrases.add(phrase);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * 검색어 오타수정 인덱스 (In-memory)
+ * - 상품명에서 추출한 키워드를 BK-tree로 보관
+ * - 임계값 이내 가장 가까운 키워드를 DB 조회 없이 탐색
+ * - 한글은 자모 단위 치환 비용을 사용하여 '산라면' -> '신라면' 같은 오타를 우선 교정
+ * - 상품 추가/변경/삭제 시 upsert()/remove()로 증분 반영
+ * - CatalogChangeFeed 구독: 기동 시 전체 구성 후 변경분만 반영
+ */
+package com.clone.backend.search;
+
+import com.clone.backend.catalog.CatalogIndex;
+import com.clone.backend.model.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class TypoCorrectionIndex implements CatalogIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 키워드 -> 해당 키워드를 가진 상품 수 (0이면 삭제된 키워드, 맵에 있는 키워드는 모두 트리에도 있음)
+    private final Map<String, Integer> keywordCounts = new HashMap<>();
+    private final Map<Long, List<String>> keywordsByProduct = new HashMap<>();
+    // 상품 수가 1 이상인 키워드 수 (변경마다 전체를 세지 않도록 증분 유지)
+    private int liveKeywords;
+    private BkTree tree = newTree();
+
+    /**
+     * 전체 상품으로 인덱스 재구성
+     */
+    @Override
+    public void rebuild(Collection<Product> products) {
+        lock.writeLock().lock();
+        try {
+            keywordCounts.clear();
+            keywordsByProduct.clear();
+            liveKeywords = 0;
+            tree = newTree();
+            for (Product product : products) {
+                index(product);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 추가 또는 상품명 변경 반영
+     */
+    @Override
+    public void upsert(Product product) {
+        if (product.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            unindex(product.getId());
+            index(product);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 삭제 반영
+     */
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            unindex(productId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 임계값 이내에서 검색어와 가장 가까운 키워드 탐색
+     * - 검색어를 포함하거나 검색어에 포함되는 키워드(부분 일치)는 제외
+     * - 거리가 같으면 더 많은 상품에 등장하는 키워드 우선
+     * @param threshold 허용 편집 횟수 (자모 단위 치환은 1회 미만으로 계산)
+     * @return 가장 가까운 키워드 (없으면 null)
+     */
+    public String findClosest(String query, int threshold) {
+        lock.readLock().lock();
+        try {
+            String[] best = new String[1];
+            int[] bestDistance = { Integer.MAX_VALUE };
+            int[] bestCount = { 0 };
+
+            tree.search(query, threshold * EditDistance.UNIT, (keyword, distance) -> {
+                if (distance == 0 || keyword.contains(query) || query.contains(keyword)) {
+                    return;
+                }
+                int count = keywordCounts.getOrDefault(keyword, 0);
+                if (count == 0) {
+                    return;
+                }
+                if (distance < bestDistance[0]
+                        || (distance == bestDistance[0] && count > bestCount[0])
+                        || (distance == bestDistance[0] && count == bestCount[0] && keyword.compareTo(best[0]) < 0)) {
+                    best[0] = keyword;
+                    bestDistance[0] = distance;
+                    bestCount[0] = count;
+                }
+            });
+
+            return best[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static BkTree newTree() {
+        return new BkTree((a, b, max) -> EditDistance.bounded(a, b, max, true), EditDistance.UNBOUNDED);
+    }
+
+    private void index(Product product) {
+        if (product.getId() == null || product.getName() == null) {
+            return;
+        }
+        List<String> keywords = ProductTextAnalyzer.extractKeywords(product.getName());
+        keywordsByProduct.put(product.getId(), keywords);
+        for (String keyword : keywords) {
+            Integer previous = keywordCounts.get(keyword);
+            if (previous == null) {
+                tree.add(keyword);
+            }
+            if (previous == null || previous == 0) {
+                liveKeywords++;
+            }
+            keywordCounts.put(keyword, previous != null ? previous + 1 : 1);
+        }
+    }
+
+    private void unindex(Long productId) {
+        List<String> keywords = keywordsByProduct.remove(productId);
+        if (keywords == null) {
+            return;
+        }
+        for (String keyword : keywords) {
+            Integer count = keywordCounts.computeIfPresent(keyword, (k, previous) -> previous - 1);
+            if (count != null && count == 0) {
+                liveKeywords--;
+            }
+        }
+    }
+
+    /**
+     * BK-tree는 노드 삭제를 지원하지 않으므로 삭제된 키워드가 과반이면 트리를 다시 구성
+     */
+    private void compactIfNeeded() {
+        if (liveKeywords * 2 >= tree.size()) {
+            return;
+        }
+
+        keywordCounts.values().removeIf(count -> count <= 0);
+        tree = newTree();
+        for (String keyword : keywordCounts.keySet()) {
+            tree.add(keyword);
+        }
+    }
+}
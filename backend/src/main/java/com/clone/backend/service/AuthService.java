@@ -44,6 +44,8 @@ public class AuthService {
         return userRepository.save(user);
     }
 
+    // 가입 직후 로그인이 복제 지연으로 실패하지 않도록 primary에서 조회 (읽기 전용 트랜잭션 아님)
+    @Transactional
     public User login(AuthDto.LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
@@ -105,6 +106,8 @@ public class KakaoOAuthService {
      * Find or create user based on Kakao user info
      */
     @SuppressWarnings({ "unchecked", "null" })
+    // 조회와 생성을 같은 primary 트랜잭션에서 (replica 지연으로 이미 있는 회원을 다시 만들지 않도록)
+    @Transactional
     public User findOrCreateUser(Map<String, Object> kakaoUserInfo) {
         Long kakaoId = ((Number) kakaoUserInfo.get("id")).longValue();
 
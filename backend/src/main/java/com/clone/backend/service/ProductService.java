@@ -1,23 +1,139 @@
 /**
  * 상품 서비스
- * - 검색 오타수정 기능 (Levenshtein distance 알고리즘)
- * - DB의 실제 상품명을 기반으로 오타를 자동 수정
+ * - 상품 목록 조회 (패싯 비트맵으로 필터링, 정렬/키셋 페이지네이션 후 한 페이지만 PK로 조회)
+ * - 목록 조회 결과는 조건별로 캐시 (상품 변경 시 영향받는 페이지만 무효화)
+ * - 타임딜/베스트 목록은 직렬화된 JSON으로 캐시 (카탈로그 버전이 바뀔 때만 다시 렌더링)
+ * - 페이지 상품은 In-memory 카탈로그 스냅샷에서 읽고, 스냅샷 로딩 전에만 DB 조회
+ * - 상품명 검색 (n-gram 역색인, 관련도 + 인기도 정렬)
+ * - 검색 오타수정 기능 (Levenshtein distance + BK-tree 키워드 인덱스)
+ * - 상품명 키워드 인덱스를 메모리에 유지하여 요청마다 DB를 조회하지 않음
  */
 package com.clone.backend.service;
 
+import com.clone.backend.cache.ProductJsonCache;
+import com.clone.backend.cache.ProductListCache;
+import com.clone.backend.cache.ProductQuery;
+import com.clone.backend.catalog.CatalogReadModel;
+import com.clone.backend.dto.ProductPage;
 import com.clone.backend.model.Product;
 import com.clone.backend.repository.ProductRepository;
+import com.clone.backend.search.PriceRange;
+import com.clone.backend.search.ProductCursor;
+import com.clone.backend.search.ProductFacetIndex;
+import com.clone.backend.search.ProductSearchIndex;
+import com.clone.backend.search.ProductSort;
+import com.clone.backend.search.TypoCorrectionIndex;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class ProductService {
 
-    private final ProductRepository productRepository;
+    /** 한 번에 반환하는 최대 상품 수 (limit 미지정 시 기본값) */
+    public static final int MAX_PAGE_SIZE = 1000;
 
-    public ProductService(ProductRepository productRepository) {
+    private final ProductRepository productRepository;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductSearchIndex productSearchIndex;
+    private final TypoCorrectionIndex typoCorrectionIndex;
+    private final ProductListCache productListCache;
+    private final CatalogReadModel catalogReadModel;
+    private final ProductJsonCache productJsonCache;
+
+    public ProductService(ProductRepository productRepository, ProductFacetIndex productFacetIndex,
+            ProductSearchIndex productSearchIndex, TypoCorrectionIndex typoCorrectionIndex,
+            ProductListCache productListCache, CatalogReadModel catalogReadModel,
+            ProductJsonCache productJsonCache) {
         this.productRepository = productRepository;
+        this.productFacetIndex = productFacetIndex;
+        this.productSearchIndex = productSearchIndex;
+        this.typoCorrectionIndex = typoCorrectionIndex;
+        this.productListCache = productListCache;
+        this.catalogReadModel = catalogReadModel;
+        this.productJsonCache = productJsonCache;
+    }
+
+    /**
+     * 상품 목록 조회 (키셋 페이지네이션)
+     * - 카테고리/가격대/타임딜/베스트 조건은 패싯 비트맵 AND로 계산
+     * - 검색어가 있으면 검색 엔진 순위(relevance)를 기본 정렬로 사용
+     * - 기본 정렬: 검색은 관련도순, 베스트는 순위순, 그 외는 상품 ID순
+     * - 한 페이지는 최대 MAX_PAGE_SIZE개이며, 다음 페이지는 nextCursor를 after로 전달하여 조회
+     * - 정규화된 조건별로 결과를 ProductListCache에 캐시
+     * @throws IllegalArgumentException 알 수 없는 정렬 기준 또는 잘못된 커서
+     */
+    public ProductPage getProducts(String category, String search, String type, String priceRange,
+            String sort, String after, Integer limit) {
+        ProductQuery query = toQuery(category, search, type, priceRange, sort, after, limit);
+        return productListCache.get(query, this::loadProducts);
+    }
+
+    /**
+     * 미리 직렬화된 상품 목록 JSON (검색어 없는 타임딜/베스트 목록만 대상)
+     * @return 대상 목록이 아니면 null (호출 측은 getProducts로 조회)
+     * @throws IllegalArgumentException 알 수 없는 정렬 기준 또는 잘못된 커서
+     */
+    public ProductJsonCache.Rendered getRenderedProducts(String category, String search, String type,
+            String priceRange, String sort, String after, Integer limit) {
+        ProductQuery query = toQuery(category, search, type, priceRange, sort, after, limit);
+        return productJsonCache.supports(query) ? productJsonCache.get(query, this::loadProducts) : null;
+    }
+
+    private ProductQuery toQuery(String category, String search, String type, String priceRange,
+            String sort, String after, Integer limit) {
+        ProductSort productSort = resolveSort(ProductSort.fromCode(sort), search, type);
+        ProductCursor cursor = after != null ? ProductCursor.decode(after) : null;
+        int pageSize = limit != null ? Math.max(1, Math.min(limit, MAX_PAGE_SIZE)) : MAX_PAGE_SIZE;
+        return new ProductQuery(category, search, type, PriceRange.fromCode(priceRange), productSort, cursor,
+                pageSize);
+    }
+
+    /**
+     * 캐시 미스 시 인덱스로 한 페이지를 계산하고 해당 상품만 조회
+     */
+    private ProductPage loadProducts(ProductQuery query) {
+        RoaringBitmap matched = productFacetIndex.filter(query.toFilter());
+
+        ProductFacetIndex.Page page;
+        if (query.getSearch() == null) {
+            page = productFacetIndex.page(matched, query.getSort(), query.getCursor(), query.getLimit());
+        } else {
+            List<Long> hits = new ArrayList<>();
+            for (Long id : productSearchIndex.search(query.getSearch())) {
+                if (matched.contains(Math.toIntExact(id))) {
+                    hits.add(id);
+                }
+            }
+            if (query.getSort() == ProductSort.RELEVANCE) {
+                page = pageByRelevance(hits, query.getCursor(), query.getLimit());
+            } else {
+                RoaringBitmap hitBitmap = new RoaringBitmap();
+                hits.forEach(id -> hitBitmap.add(Math.toIntExact(id)));
+                page = productFacetIndex.page(hitBitmap, query.getSort(), query.getCursor(), query.getLimit());
+            }
+        }
+
+        String nextCursor = page.getNext() != null ? page.getNext().encode() : null;
+        return new ProductPage(findAllInOrder(page.getIds()), nextCursor);
+    }
+
+    /**
+     * 사이드바 패싯 개수 (목록 조회와 같은 조건)
+     */
+    public Map<String, Object> getFacetCounts(String category, String search, String type, String priceRange) {
+        RoaringBitmap candidates = null;
+        if (search != null) {
+            candidates = new RoaringBitmap();
+            for (Long id : productSearchIndex.search(search)) {
+                candidates.add(Math.toIntExact(id));
+            }
+        }
+        return productFacetIndex.counts(toFilter(category, type, priceRange), candidates);
     }
 
     /**
@@ -32,95 +148,82 @@ public class ProductService {
         }
 
         // 먼저 검색 결과가 있는지 확인
-        List<Product> searchResults = productRepository.findByNameContaining(query);
-        if (!searchResults.isEmpty()) {
+        if (productSearchIndex.hasMatch(query)) {
             // 검색 결과가 있으면 오타수정 불필요
             return null;
         }
 
-        // 검색 결과가 없을 때만 오타수정 수행
-        // DB에서 모든 상품명 가져오기
-        List<Product> allProducts = productRepository.findAll();
-
-        String bestMatch = null;
-        int minDistance = Integer.MAX_VALUE;
-
-        for (Product product : allProducts) {
-            String productName = product.getName();
-            
-            // 상품명에서 키워드 추출 (공백, 특수문자로 분리)
-            String[] keywords = productName
-                    .replaceAll("[\\[\\]()]", " ")  // 대괄호, 괄호 제거
-                    .replaceAll("[^가-힣a-zA-Z0-9\\s]", " ")  // 특수문자 제거
-                    .split("\\s+");  // 공백으로 분리
-
-            for (String keyword : keywords) {
-                if (keyword.length() < 2) continue;  // 너무 짧은 키워드는 스킵
-                
-                // 정확한 일치나 부분 일치가 있으면 스킵
-                if (keyword.contains(query) || query.contains(keyword)) {
-                    continue;
-                }
-
-                int distance = getLevenshteinDistance(query, keyword);
-
-                // 임계값: 검색어 길이에 따라 조정
-                int threshold;
-                if (query.length() <= 3) {
-                    threshold = 1;  // 짧은 검색어는 1자 오타만 허용
-                } else if (query.length() <= 5) {
-                    threshold = 2;  // 중간 길이는 2자 오타 허용
-                } else {
-                    threshold = 3;  // 긴 검색어는 3자 오타 허용
-                }
+        // 검색 결과가 없을 때만 오타수정 수행 (키워드 인덱스에서 탐색)
+        return typoCorrectionIndex.findClosest(query, getThreshold(query));
+    }
 
-                if (distance <= threshold && distance < minDistance && distance > 0) {
-                    minDistance = distance;
-                    bestMatch = keyword;  // 키워드를 반환
-                }
-            }
+    /**
+     * 임계값: 검색어 길이에 따라 조정
+     */
+    private int getThreshold(String query) {
+        if (query.length() <= 3) {
+            return 1;  // 짧은 검색어는 1자 오타만 허용
+        } else if (query.length() <= 5) {
+            return 2;  // 중간 길이는 2자 오타 허용
         }
+        return 3;  // 긴 검색어는 3자 오타 허용
+    }
 
-        return bestMatch;
+    private ProductSort resolveSort(ProductSort requested, String search, String type) {
+        if (requested == ProductSort.RELEVANCE && search == null) {
+            return ProductSort.ID;
+        }
+        if (requested != null) {
+            return requested;
+        }
+        if (search != null) {
+            return ProductSort.RELEVANCE;
+        }
+        return "best".equals(type) ? ProductSort.RANK : ProductSort.ID;
     }
 
     /**
-     * Levenshtein distance 계산
+     * 검색 순위 목록에서 커서(마지막 상품 ID) 다음부터 한 페이지
      */
-    private int getLevenshteinDistance(String a, String b) {
-        if (a.length() == 0) return b.length();
-        if (b.length() == 0) return a.length();
+    private ProductFacetIndex.Page pageByRelevance(List<Long> hits, ProductCursor cursor, int pageSize) {
+        int start = cursor != null ? hits.indexOf(cursor.getId()) + 1 : 0;
+        if (cursor != null && start == 0) {
+            // 커서 이후 카탈로그가 바뀌어 마지막 상품이 사라진 경우
+            return new ProductFacetIndex.Page(new ArrayList<>(), null);
+        }
+        int end = Math.min(hits.size(), start + pageSize);
+        List<Long> ids = new ArrayList<>(hits.subList(start, end));
+        ProductCursor next = end < hits.size() ? new ProductCursor(0, hits.get(end - 1)) : null;
+        return new ProductFacetIndex.Page(ids, next);
+    }
 
-        int[][] matrix = new int[b.length() + 1][a.length() + 1];
+    private ProductFacetIndex.Filter toFilter(String category, String type, String priceRange) {
+        return new ProductFacetIndex.Filter(
+                category,
+                PriceRange.fromCode(priceRange),
+                "timedeal".equals(type) ? Boolean.TRUE : null,
+                "best".equals(type) ? Boolean.TRUE : null);
+    }
 
-        // 첫 번째 행 초기화
-        for (int j = 0; j <= a.length(); j++) {
-            matrix[0][j] = j;
+    /**
+     * 주어진 ID 순서대로 상품 조회 (카탈로그 스냅샷, 로딩 전에는 PK IN 조회 1회)
+     */
+    private List<Product> findAllInOrder(List<Long> ids) {
+        if (catalogReadModel.isLoaded()) {
+            return catalogReadModel.findAll(ids);
         }
 
-        // 첫 번째 열 초기화
-        for (int i = 0; i <= b.length(); i++) {
-            matrix[i][0] = i;
+        Map<Long, Product> byId = new HashMap<>();
+        for (Product product : productRepository.findAllById(ids)) {
+            byId.put(product.getId(), product);
         }
-
-        // 행렬 채우기
-        for (int i = 1; i <= b.length(); i++) {
-            for (int j = 1; j <= a.length(); j++) {
-                if (b.charAt(i - 1) == a.charAt(j - 1)) {
-                    matrix[i][j] = matrix[i - 1][j - 1];
-                } else {
-                    matrix[i][j] = Math.min(
-                        matrix[i - 1][j - 1] + 1, // substitution
-                        Math.min(
-                            matrix[i][j - 1] + 1, // insertion
-                            matrix[i - 1][j] + 1  // deletion
-                        )
-                    );
-                }
+        List<Product> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product product = byId.get(id);
+            if (product != null) {
+                ordered.add(product);
             }
         }
-
-        return matrix[b.length()][a.length()];
+        return ordered;
     }
 }
-
@@ -0,0 +1,19 @@
+/**
+ * 재고 부족 예외
+ * - 재고 예약 시 가용 재고보다 많은 수량을 요청한 상품이 있으면 발생 (해당 주문은 아무것도 차감되지 않음)
+ */
+package com.clone.backend.stock;
+
+public class InsufficientStockException extends RuntimeException {
+
+    private final Long productId;
+
+    public InsufficientStockException(Long productId) {
+        super("Insufficient stock for product " + productId);
+        this.productId = productId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * 확정 재고 DB 반영기 (write-behind)
+ * - 결제 확정으로 Redis 대기 해시(stock:committed)에 쌓인 상품별 차감 수량을 주기적으로 모아
+ *   products.stock_quantity에 JDBC 배치 UPDATE 한 번(트랜잭션 1개)으로 반영
+ *   (주문마다 같은 행을 갱신하지 않으므로 인기 상품 행 잠금 경합 없음)
+ * - 반영 후 카탈로그 변경 피드로 전파하여 스냅샷/인덱스/SSE 재고 이벤트 갱신
+ *   (재고만 바뀐 변경으로 표시되어 카탈로그 버전/목록 캐시는 초마다 바뀌지 않음 - CatalogChangedEvent.stockOnly)
+ * - 반영이 실패하면 처리 중 해시가 남아 다음 주기에 같은 수량을 다시 반영
+ * - 여러 인스턴스 중 처리 중 해시의 소유자(임대)만 반영
+ *   DB 커밋 직전에 소유권 확인과 처리 중 해시 삭제를 한 번에 수행하고, 반영 도중 임대가 만료돼 소유권을 잃었으면 롤백
+ *   (다른 인스턴스가 가져간 같은 수량을 두 번 반영하지 않음)
+ *   처리 중 해시를 지운 뒤 커밋이 실패하면 수량을 대기 해시에 되돌려 다음 주기에 반영
+ */
+package com.clone.backend.stock;
+
+import com.clone.backend.catalog.CatalogChangeFeed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Component
+public class StockReconciler {
+
+    private static final String FLUSHING_KEY = "stock:committed:flushing";
+    private static final String OWNER_KEY = "stock:committed:owner";
+    private static final String UPDATE_SQL = "update products set stock_quantity = greatest(stock_quantity - ?, 0), "
+            + "updated_at = ? where id = ?";
+
+    private static final Logger log = LoggerFactory.getLogger(StockReconciler.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogChangeFeed catalogChangeFeed;
+    private final Duration lease;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> drainScript = new DefaultRedisScript<>();
+    private final DefaultRedisScript<Long> flushedScript = new DefaultRedisScript<>();
+
+    public StockReconciler(StringRedisTemplate redisTemplate, JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate, CatalogChangeFeed catalogChangeFeed,
+            @Value("${stock.reconcile.lease:60s}") Duration lease) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.catalogChangeFeed = catalogChangeFeed;
+        this.lease = lease;
+        drainScript.setLocation(new ClassPathResource("redis/stock-drain.lua"));
+        drainScript.setResultType(List.class);
+        flushedScript.setLocation(new ClassPathResource("redis/stock-flushed.lua"));
+        flushedScript.setResultType(Long.class);
+    }
+
+    /**
+     * 대기 중인 확정 수량을 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${stock.reconcile.interval-ms:1000}")
+    public void flush() {
+        Map<Long, Integer> decrements;
+        try {
+            decrements = drain();
+        } catch (RuntimeException e) {
+            log.warn("Skipping stock reconcile: Redis unavailable", e);
+            return;
+        }
+        if (decrements.isEmpty()) {
+            return;
+        }
+
+        // 상품 ID 순으로 갱신하여 다른 트랜잭션과 행 잠금 순서를 맞춤
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(decrements.size());
+        decrements.forEach((productId, quantity) -> batch.add(new Object[] { quantity, now, productId }));
+        boolean[] flushed = new boolean[1];
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+                if (!markFlushed()) {
+                    status.setRollbackOnly();
+                    return;
+                }
+                flushed[0] = true;
+            });
+        } catch (RuntimeException e) {
+            if (flushed[0]) {
+                requeue(decrements);
+            }
+            log.error("Failed to reconcile stock of {} products, will retry", decrements.size(), e);
+            return;
+        }
+
+        if (!flushed[0]) {
+            log.warn("Lost stock reconcile lease while writing {} products, rolled back", decrements.size());
+            return;
+        }
+        catalogChangeFeed.publishUpdated(decrements.keySet());
+        log.info("Reconciled stock of {} products", decrements.size());
+    }
+
+    private Map<Long, Integer> drain() {
+        List<?> fields = redisTemplate.execute(drainScript,
+                List.of(StockReservationService.PENDING_KEY, FLUSHING_KEY, OWNER_KEY),
+                instanceId, String.valueOf(lease.toMillis()));
+        Map<Long, Integer> decrements = new TreeMap<>();
+        if (fields == null) {
+            return decrements;
+        }
+        for (int i = 0; i + 1 < fields.size(); i += 2) {
+            int quantity = Integer.parseInt(String.valueOf(fields.get(i + 1)));
+            if (quantity > 0) {
+                decrements.put(Long.valueOf(String.valueOf(fields.get(i))), quantity);
+            }
+        }
+        if (decrements.isEmpty() && !fields.isEmpty()) {
+            // 반영할 수량이 없는 처리 중 해시가 다음 대기분을 막지 않도록 정리
+            markFlushed();
+        }
+        return decrements;
+    }
+
+    // 처리 중 해시는 이미 지웠으므로 같은 수량을 대기 해시에 다시 누적
+    private void requeue(Map<Long, Integer> decrements) {
+        decrements.forEach((productId, quantity) -> redisTemplate.opsForHash()
+                .increment(StockReservationService.PENDING_KEY, String.valueOf(productId), quantity));
+    }
+
+    private boolean markFlushed() {
+        Long flushed = redisTemplate.execute(flushedScript, List.of(FLUSHING_KEY, OWNER_KEY), instanceId);
+        return flushed != null && flushed > 0;
+    }
+}
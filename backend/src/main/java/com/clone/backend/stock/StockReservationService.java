@@ -0,0 +1,206 @@
+/**
+ * 재고 예약 서비스 (Redis)
+ * - 상품별 가용 재고 카운터(stock:{productId})를 Redis에 두고 Lua 스크립트로 원자적으로 차감/복구
+ *   (DB 행 잠금 없이 같은 상품을 동시에 결제하는 요청을 처리, 가용 재고 이하로만 차감되어 초과 판매 없음)
+ * - 주문 하나의 여러 상품은 전부 예약되거나 하나도 예약되지 않음
+ * - 예약은 결제 대기 시간(기본 10분) 동안 유지되며, 결제 완료 시 확정(commit), 실패/취소 시 해제(release)
+ * - 만료된 예약은 주기적으로 회수하여 가용 재고로 되돌림
+ *   회수된 뒤 결제가 끝난 주문은 확정 시 그 시점의 가용 재고로 다시 차감 (부족하면 실패 - 초과 판매 없음)
+ * - 스크립트가 쓰는 키는 모두 KEYS로 넘김 (해제는 예약 해시의 상품 ID를 먼저 읽어 카운터 키 구성)
+ * - 확정된 수량은 DB 반영 대기 해시에 누적되고 StockReconciler가 모아서 products 테이블에 반영
+ * - 카운터가 없으면(최초 사용, Redis 초기화) 카탈로그의 재고 수량으로 SETNX 초기화 후 재시도
+ */
+package com.clone.backend.stock;
+
+import com.clone.backend.catalog.CatalogReadModel;
+import com.clone.backend.model.Product;
+import com.clone.backend.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class StockReservationService {
+
+    public static final String STOCK_KEY_PREFIX = "stock:";
+    public static final String PENDING_KEY = "stock:committed";
+    private static final String RESERVATION_KEY_PREFIX = "stock:reservation:";
+    private static final String EXPIRY_KEY = "stock:reservations:expiry";
+
+    // 만료 후 회수되기 전까지 예약 해시가 먼저 사라지지 않도록 TTL에 여유를 둠
+    private static final Duration RESERVATION_KEY_GRACE = Duration.ofMinutes(10);
+    private static final int RECLAIM_BATCH_SIZE = 200;
+
+    private static final Logger log = LoggerFactory.getLogger(StockReservationService.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CatalogReadModel catalogReadModel;
+    private final ProductRepository productRepository;
+    private final Duration reservationTtl;
+
+    private final DefaultRedisScript<Long> reserveScript = script("redis/stock-reserve.lua");
+    private final DefaultRedisScript<Long> releaseScript = script("redis/stock-release.lua");
+    private final DefaultRedisScript<Long> commitScript = script("redis/stock-commit.lua");
+
+    public StockReservationService(StringRedisTemplate redisTemplate, CatalogReadModel catalogReadModel,
+            ProductRepository productRepository,
+            @Value("${stock.reservation.ttl:10m}") Duration reservationTtl) {
+        this.redisTemplate = redisTemplate;
+        this.catalogReadModel = catalogReadModel;
+        this.productRepository = productRepository;
+        this.reservationTtl = reservationTtl;
+    }
+
+    /**
+     * 재고 예약 (상품 ID -> 수량, 수량은 1 이상)
+     * 같은 사용자/주문 ID로 다시 호출하면 추가 차감 없이 기존 예약 유지
+     * @return 예약 만료 시각
+     * @throws InsufficientStockException 가용 재고가 부족한 상품이 있으면 (아무것도 차감하지 않음)
+     */
+    public Instant reserve(Long userId, String orderId, Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            throw new IllegalArgumentException("No items to reserve");
+        }
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        String member = member(userId, orderId);
+        Instant expiresAt = Instant.now().plus(reservationTtl);
+
+        List<String> keys = new ArrayList<>(productIds.size() + 2);
+        keys.add(RESERVATION_KEY_PREFIX + member);
+        keys.add(EXPIRY_KEY);
+        List<String> args = new ArrayList<>(productIds.size() * 2 + 3);
+        args.add(member);
+        args.add(String.valueOf(expiresAt.toEpochMilli()));
+        args.add(String.valueOf(reservationTtl.plus(RESERVATION_KEY_GRACE).toMillis()));
+        for (Long productId : productIds) {
+            int quantity = quantities.get(productId);
+            if (quantity <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive: " + productId);
+            }
+            keys.add(STOCK_KEY_PREFIX + productId);
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        }
+
+        // 카운터가 없는 상품은 초기화 후 재시도 (상품 수만큼만 반복)
+        for (int attempt = 0; attempt <= productIds.size(); attempt++) {
+            long result = redisTemplate.execute(reserveScript, keys, args.toArray());
+            if (result == 0) {
+                return expiresAt;
+            }
+            Long productId = productIds.get((int) Math.abs(result) - 1);
+            if (result > 0) {
+                throw new InsufficientStockException(productId);
+            }
+            initialize(productId);
+        }
+        throw new IllegalStateException("Failed to initialize stock counters for order " + orderId);
+    }
+
+    /**
+     * 예약 확정 (결제 완료)
+     * @return 확정할 예약이 없으면 false (만료되어 회수됨)
+     */
+    public boolean commit(Long userId, String orderId) {
+        String member = member(userId, orderId);
+        Long result = redisTemplate.execute(commitScript,
+                List.of(RESERVATION_KEY_PREFIX + member, EXPIRY_KEY, PENDING_KEY), member);
+        return result != null && result > 0;
+    }
+
+    /**
+     * 예약 확정 (결제 완료), 예약이 만료되어 회수됐으면 주문 수량으로 다시 예약한 뒤 확정
+     * @throws InsufficientStockException 회수 이후 재고가 팔려 다시 예약할 수 없으면 (아무것도 차감하지 않음)
+     */
+    public void commit(Long userId, String orderId, Map<Long, Integer> quantities) {
+        if (commit(userId, orderId)) {
+            return;
+        }
+        log.warn("Stock reservation for order {} was reclaimed before commit, reserving again", orderId);
+        reserve(userId, orderId, quantities);
+        if (!commit(userId, orderId)) {
+            throw new IllegalStateException("Failed to commit stock reservation for order " + orderId);
+        }
+    }
+
+    /**
+     * 예약 해제 (결제 실패/취소)
+     * @return 해제된 예약이 있었는지 여부
+     */
+    public boolean release(Long userId, String orderId) {
+        return release(member(userId, orderId));
+    }
+
+    /**
+     * 만료된 예약 회수 (결제 없이 이탈한 주문의 재고를 되돌림)
+     */
+    @Scheduled(fixedDelayString = "${stock.reservation.reclaim-interval-ms:5000}")
+    public void reclaimExpired() {
+        Set<String> expired = redisTemplate.opsForZSet().rangeByScore(EXPIRY_KEY, 0,
+                System.currentTimeMillis(), 0, RECLAIM_BATCH_SIZE);
+        if (expired == null || expired.isEmpty()) {
+            return;
+        }
+        int released = 0;
+        for (String member : expired) {
+            if (release(member)) {
+                released++;
+            }
+        }
+        log.info("Reclaimed {} expired stock reservations", released);
+    }
+
+    private boolean release(String member) {
+        String reservationKey = RESERVATION_KEY_PREFIX + member;
+        // 예약 해시는 생성 후 바뀌지 않으므로, 읽은 뒤 같은 예약이 새로 만들어진 경우에만 다시 읽음
+        for (int attempt = 0; attempt < 3; attempt++) {
+            Set<Object> productIds = redisTemplate.opsForHash().keys(reservationKey);
+            List<String> keys = new ArrayList<>(productIds.size() + 2);
+            keys.add(reservationKey);
+            keys.add(EXPIRY_KEY);
+            List<String> args = new ArrayList<>(productIds.size() + 1);
+            args.add(member);
+            for (Object productId : productIds) {
+                keys.add(STOCK_KEY_PREFIX + productId);
+                args.add(String.valueOf(productId));
+            }
+            Long result = redisTemplate.execute(releaseScript, keys, args.toArray());
+            if (result == null || result >= 0) {
+                return result != null && result > 0;
+            }
+        }
+        throw new IllegalStateException("Stock reservation changed while releasing " + member);
+    }
+
+    // 카탈로그의 재고 수량으로 카운터 생성 (이미 있으면 그대로 둠)
+    private void initialize(Long productId) {
+        Product product = catalogReadModel.findById(productId)
+                .or(() -> productRepository.findById(productId))
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+        redisTemplate.opsForValue().setIfAbsent(STOCK_KEY_PREFIX + productId,
+                String.valueOf(Math.max(0, product.getStockQuantity())));
+    }
+
+    private static String member(Long userId, String orderId) {
+        return userId + ":" + orderId;
+    }
+
+    private static DefaultRedisScript<Long> script(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
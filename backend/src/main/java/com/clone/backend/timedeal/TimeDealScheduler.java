@@ -0,0 +1,173 @@
+/**
+ * 타임딜 스케줄러
+ * - 진행 중인 타임딜을 종료 시간 기준 최소 힙으로 유지 (카탈로그 변경 피드 구독)
+ * - 가장 빠른 종료 시간은 변경 시점에 미리 계산해 두므로 조회는 O(1), DB 조회 없음
+ * - 종료 시간이 지난 타임딜은 한 번의 벌크 UPDATE로 isTimeDeal=false 처리 후 변경 피드로 발행
+ *   (인덱스/스냅샷/목록 캐시가 CatalogChangedEvent로 함께 갱신됨)
+ * - 힙은 지연 삭제 방식: 종료 시간이 바뀌거나 타임딜이 해제된 상품의 이전 항목은 꺼낼 때 버림
+ * - 여러 인스턴스가 동시에 만료 처리해도 UPDATE 조건(isTimeDeal = true)으로 한 번만 반영됨
+ * - 만료 UPDATE가 실패하면 꺼낸 항목을 원래 종료 시간 그대로 힙에 되돌림
+ *   (그 사이 종료 시간이 바뀌었거나 타임딜이 해제된 상품은 이미 현재 상태가 반영되어 있으므로 되돌리지 않음)
+ */
+package com.clone.backend.timedeal;
+
+import com.clone.backend.catalog.CatalogChangeFeed;
+import com.clone.backend.catalog.CatalogIndex;
+import com.clone.backend.model.Product;
+import com.clone.backend.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+@Component
+public class TimeDealScheduler implements CatalogIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeDealScheduler.class);
+
+    /**
+     * 힙 항목 (상품의 현재 종료 시간과 다르면 지난 항목)
+     */
+    private static final class Deal {
+        private final long productId;
+        private final LocalDateTime endTime;
+
+        private Deal(long productId, LocalDateTime endTime) {
+            this.productId = productId;
+            this.endTime = endTime;
+        }
+    }
+
+    private final ProductRepository productRepository;
+    private final ObjectProvider<CatalogChangeFeed> catalogChangeFeed;
+
+    private final PriorityQueue<Deal> heap = new PriorityQueue<>((a, b) -> a.endTime.compareTo(b.endTime));
+    private final Map<Long, LocalDateTime> endTimes = new HashMap<>();
+    private volatile LocalDateTime earliestEndTime;
+
+    // 변경 피드가 이 구독자를 포함하므로 피드는 지연 조회 (생성자 순환 의존 방지)
+    public TimeDealScheduler(ProductRepository productRepository, ObjectProvider<CatalogChangeFeed> catalogChangeFeed) {
+        this.productRepository = productRepository;
+        this.catalogChangeFeed = catalogChangeFeed;
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Product> products) {
+        heap.clear();
+        endTimes.clear();
+        for (Product product : products) {
+            if (product.isTimeDeal() && product.getTimeDealEndTime() != null) {
+                endTimes.put(product.getId(), product.getTimeDealEndTime());
+                heap.add(new Deal(product.getId(), product.getTimeDealEndTime()));
+            }
+        }
+        refreshEarliest();
+    }
+
+    @Override
+    public synchronized void upsert(Product product) {
+        if (product.isTimeDeal() && product.getTimeDealEndTime() != null) {
+            LocalDateTime previous = endTimes.put(product.getId(), product.getTimeDealEndTime());
+            if (!product.getTimeDealEndTime().equals(previous)) {
+                heap.add(new Deal(product.getId(), product.getTimeDealEndTime()));
+            }
+        } else {
+            endTimes.remove(product.getId());
+        }
+        refreshEarliest();
+    }
+
+    @Override
+    public synchronized void remove(Long productId) {
+        endTimes.remove(productId);
+        refreshEarliest();
+    }
+
+    /**
+     * 진행 중인 타임딜 중 가장 빠른 종료 시간 (없으면 null)
+     */
+    public LocalDateTime getEarliestEndTime() {
+        return earliestEndTime;
+    }
+
+    /**
+     * 종료된 타임딜 만료 처리 (가장 빠른 종료 시간만 비교하므로 종료된 딜이 없으면 O(1))
+     */
+    @Scheduled(fixedDelayString = "${timedeal.expiry-check-interval-ms:1000}")
+    public void expireEndedDeals() {
+        LocalDateTime earliest = earliestEndTime;
+        LocalDateTime now = LocalDateTime.now();
+        if (earliest == null || earliest.isAfter(now)) {
+            return;
+        }
+
+        List<Deal> ended = pollEnded(now);
+        if (ended.isEmpty()) {
+            return;
+        }
+        List<Long> productIds = ended.stream().map(deal -> deal.productId).toList();
+        try {
+            int updated = productRepository.expireTimeDeals(productIds, now);
+            log.info("Expired {} time deals ({} rows updated)", productIds.size(), updated);
+            forget(ended);
+            catalogChangeFeed.getObject().publishUpdated(productIds);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도하도록 힙에 되돌림
+            log.error("Failed to expire time deals {}", productIds, e);
+            restore(ended);
+        }
+    }
+
+    // 종료 시간이 지난 항목을 힙에서 꺼냄 (종료 시간 맵은 만료가 끝날 때까지 유지하여 그 사이 변경을 구분)
+    private synchronized List<Deal> pollEnded(LocalDateTime now) {
+        List<Deal> ended = new ArrayList<>();
+        while (!heap.isEmpty() && !heap.peek().endTime.isAfter(now)) {
+            Deal deal = heap.poll();
+            if (deal.endTime.equals(endTimes.get(deal.productId))) {
+                ended.add(deal);
+            }
+        }
+        refreshEarliest();
+        return ended;
+    }
+
+    // 만료된 상품의 종료 시간 제거 (그 사이 종료 시간이 바뀐 상품은 유지)
+    private synchronized void forget(List<Deal> deals) {
+        for (Deal deal : deals) {
+            endTimes.remove(deal.productId, deal.endTime);
+        }
+        refreshEarliest();
+    }
+
+    // 꺼낸 항목을 원래 종료 시간으로 되돌림 (꺼낸 뒤 종료 시간이 바뀌었거나 해제된 상품은 건너뜀)
+    private synchronized void restore(List<Deal> deals) {
+        for (Deal deal : deals) {
+            if (deal.endTime.equals(endTimes.get(deal.productId))) {
+                heap.add(deal);
+            }
+        }
+        refreshEarliest();
+    }
+
+    // 지난 항목을 버리고 맨 앞 종료 시간을 미리 계산
+    private void refreshEarliest() {
+        if (heap.size() > 2 * endTimes.size() + 64) {
+            // 종료 시간 변경이 잦아 지난 항목이 쌓이면 현재 상태로 힙 재구성
+            heap.clear();
+            endTimes.forEach((productId, endTime) -> heap.add(new Deal(productId, endTime)));
+        }
+        while (!heap.isEmpty() && !heap.peek().endTime.equals(endTimes.get(heap.peek().productId))) {
+            heap.poll();
+        }
+        earliestEndTime = heap.isEmpty() ? null : heap.peek().endTime;
+    }
+}
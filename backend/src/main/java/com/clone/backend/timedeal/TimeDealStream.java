@@ -0,0 +1,326 @@
+/**
+ * 타임딜 실시간 스트림 (Server-Sent Events)
+ * - 카탈로그 변경 피드를 구독하여 타임딜 시작/종료, 재고 변경, 가장 빠른 종료 시간 변경을 구독자에게 전달
+ * - 재고 변경은 상품별 마지막 값만 남기고 flush 주기마다 한 번에 전달 (주문이 몰려도 이벤트 수가 늘지 않음)
+ * - 단일 발행자: flush 주기마다 이벤트를 한 번만 직렬화하여 모든 구독자 큐에 넣음
+ * - 구독자별 큐는 크기가 제한되어 있고, 가득 차면(느린 소비자) 연결을 끊음 (EventSource가 재접속 후 snapshot 수신)
+ * - 실제 전송은 소수의 writer 스레드가 구독자 큐를 비우며 수행 (한 구독자의 느린 소켓이 발행자를 막지 않음)
+ * - 이벤트: snapshot(접속 직후 전체 상태), deal-start(시작 또는 종료 시간 변경), deal-end, stock, endtime
+ */
+package com.clone.backend.timedeal;
+
+import com.clone.backend.catalog.CatalogIndex;
+import com.clone.backend.model.Product;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class TimeDealStream implements CatalogIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeDealStream.class);
+
+    // 프록시가 유휴 연결을 끊지 않도록 보내는 주석 이벤트 간격
+    private static final long HEARTBEAT_INTERVAL_MS = 15_000;
+
+    /** SSE 한 프레임 (한 번 직렬화하여 모든 구독자가 공유) */
+    private static final class Frame {
+        private final Set<ResponseBodyEmitter.DataWithMediaType> data;
+
+        private Frame(Set<ResponseBodyEmitter.DataWithMediaType> data) {
+            this.data = data;
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    /** 추적 중인 타임딜 상품 상태 (재고 변경 감지용) */
+    private static final class DealState {
+        private final LocalDateTime endTime;
+        private final int stockQuantity;
+
+        private DealState(LocalDateTime endTime, int stockQuantity) {
+            this.endTime = endTime;
+            this.stockQuantity = stockQuantity;
+        }
+    }
+
+    private final TimeDealScheduler timeDealScheduler;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMs;
+    private final ExecutorService writers;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // 아래 상태는 this로 동기화 (변경 피드 스레드 <-> 발행자)
+    private final Map<Long, DealState> deals = new HashMap<>();
+    private final List<Frame> pendingLifecycle = new ArrayList<>();
+    private final Map<Long, Integer> pendingStock = new LinkedHashMap<>();
+
+    private volatile LocalDateTime lastEndTime;
+    private volatile long lastSentAt = System.currentTimeMillis();
+
+    public TimeDealStream(TimeDealScheduler timeDealScheduler, ObjectMapper objectMapper,
+            @Value("${timedeal.stream.buffer-size:64}") int bufferSize,
+            @Value("${timedeal.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${timedeal.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${timedeal.stream.writer-threads:4}") int writerThreads) {
+        this.timeDealScheduler = timeDealScheduler;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "timedeal-sse-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 구독 등록 (접속 직후 현재 타임딜 상태를 snapshot 이벤트로 전달)
+     * @return 구독자 수 제한을 넘으면 null
+     */
+    public SseEmitter subscribe() {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // 등록 후 snapshot을 만들어 그 사이 변경을 놓치지 않음 (앞서 도착한 변경은 snapshot이 덮어씀)
+        subscribers.add(subscriber);
+        subscriber.queue.offer(frame("snapshot", snapshotPayload()));
+        scheduleDrain(subscriber);
+        return emitter;
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Product> products) {
+        Map<Long, DealState> previous = new HashMap<>(deals);
+        deals.clear();
+        for (Product product : products) {
+            if (product.isTimeDeal()) {
+                track(product);
+            }
+        }
+        for (Long productId : previous.keySet()) {
+            if (!deals.containsKey(productId)) {
+                pendingLifecycle.add(frame("deal-end", Map.of("productId", productId)));
+            }
+        }
+        for (Map.Entry<Long, DealState> entry : deals.entrySet()) {
+            DealState before = previous.get(entry.getKey());
+            if (before == null) {
+                pendingLifecycle.add(frame("deal-start", dealPayload(entry.getKey(), entry.getValue())));
+            } else if (before.stockQuantity != entry.getValue().stockQuantity) {
+                pendingStock.put(entry.getKey(), entry.getValue().stockQuantity);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void upsert(Product product) {
+        DealState before = deals.get(product.getId());
+        if (!product.isTimeDeal()) {
+            if (before != null) {
+                deals.remove(product.getId());
+                pendingStock.remove(product.getId());
+                pendingLifecycle.add(frame("deal-end", Map.of("productId", product.getId())));
+            }
+            return;
+        }
+
+        DealState after = track(product);
+        if (before == null || !Objects.equals(before.endTime, after.endTime)) {
+            pendingLifecycle.add(frame("deal-start", dealPayload(product.getId(), after)));
+        } else if (before.stockQuantity != after.stockQuantity) {
+            pendingStock.put(product.getId(), after.stockQuantity);
+        }
+    }
+
+    @Override
+    public synchronized void remove(Long productId) {
+        if (deals.remove(productId) != null) {
+            pendingStock.remove(productId);
+            pendingLifecycle.add(frame("deal-end", Map.of("productId", productId)));
+        }
+    }
+
+    /**
+     * 단일 발행자: 모인 이벤트를 모든 구독자 큐에 전달
+     */
+    @Scheduled(fixedDelayString = "${timedeal.stream.flush-interval-ms:500}")
+    public void flush() {
+        List<Frame> frames = new ArrayList<>();
+        synchronized (this) {
+            frames.addAll(pendingLifecycle);
+            pendingLifecycle.clear();
+            if (!pendingStock.isEmpty()) {
+                frames.add(frame("stock", new LinkedHashMap<>(pendingStock)));
+                pendingStock.clear();
+            }
+        }
+
+        LocalDateTime endTime = timeDealScheduler.getEarliestEndTime();
+        if (!Objects.equals(endTime, lastEndTime)) {
+            lastEndTime = endTime;
+            frames.add(frame("endtime", endTimePayload(endTime)));
+        }
+
+        long now = System.currentTimeMillis();
+        if (frames.isEmpty()) {
+            if (now - lastSentAt < HEARTBEAT_INTERVAL_MS) {
+                return;
+            }
+            frames.add(heartbeat());
+        }
+        lastSentAt = now;
+
+        for (Subscriber subscriber : subscribers) {
+            for (Frame frame : frames) {
+                if (!subscriber.queue.offer(frame)) {
+                    // 느린 소비자: 버퍼를 넘긴 구독자는 끊고 재접속 시 snapshot으로 다시 맞춤
+                    log.debug("Dropping slow time deal subscriber");
+                    drop(subscriber);
+                    break;
+                }
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(this::drop);
+        writers.shutdownNow();
+    }
+
+    private DealState track(Product product) {
+        DealState state = new DealState(product.getTimeDealEndTime(), product.getStockQuantity());
+        deals.put(product.getId(), state);
+        return state;
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.closed.get() && !subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Frame frame;
+            while (!subscriber.closed.get() && (frame = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(frame.data);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            drop(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 전송 중 새로 들어온 이벤트가 있으면 이어서 처리
+        scheduleDrain(subscriber);
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (unsubscribe(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribers.remove(subscriber);
+        subscriberCount.decrementAndGet();
+        subscriber.queue.clear();
+        return true;
+    }
+
+    private synchronized Map<String, Object> snapshotPayload() {
+        List<Map<String, Object>> items = new ArrayList<>();
+        deals.forEach((productId, state) -> items.add(dealPayload(productId, state)));
+        Map<String, Object> payload = endTimePayload(timeDealScheduler.getEarliestEndTime());
+        payload.put("deals", items);
+        return payload;
+    }
+
+    private Map<String, Object> dealPayload(Long productId, DealState state) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("productId", productId);
+        payload.put("endTime", state.endTime);
+        payload.put("stockQuantity", state.stockQuantity);
+        return payload;
+    }
+
+    private Map<String, Object> endTimePayload(LocalDateTime endTime) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("endTime", endTime);
+        return payload;
+    }
+
+    private Frame frame(String name, Object payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            return new Frame(SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON).build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize time deal event " + name, e);
+        }
+    }
+
+    private Frame heartbeat() {
+        return new Frame(SseEmitter.event().comment("heartbeat").build());
+    }
+}
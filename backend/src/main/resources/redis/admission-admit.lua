@@ -0,0 +1,28 @@
+-- 대기열 앞에서부터 토큰 버킷이 허용하는 만큼 입장 처리 (버킷은 모든 인스턴스가 공유하므로 전체 입장 속도 일정)
+-- KEYS[1]: 토큰 버킷 해시 (tokens, ts), KEYS[2]: 대기열 ZSET, KEYS[3]: 대기열이 있는 상품 SET
+-- ARGV[1]: 현재 시각 (ms), ARGV[2]: 초당 입장 수, ARGV[3]: 버킷 크기, ARGV[4]: 상품 ID
+-- 반환: 이번에 입장한 사용자 ID 목록 (입장권 키는 호출자가 설정 - 사용자별 키를 KEYS로 미리 알 수 없음)
+local now = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local burst = tonumber(ARGV[3])
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1]) or burst
+local ts = tonumber(bucket[2]) or now
+tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+
+local admitted = {}
+local count = math.floor(tokens)
+if count > 0 then
+    local popped = redis.call('ZPOPMIN', KEYS[2], count)
+    for i = 1, #popped, 2 do
+        admitted[#admitted + 1] = popped[i]
+    end
+    tokens = tokens - #admitted
+end
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', ARGV[1])
+redis.call('PEXPIRE', KEYS[1], 3600000)
+
+if redis.call('ZCARD', KEYS[2]) == 0 then
+    redis.call('SREM', KEYS[3], ARGV[4])
+end
+return admitted
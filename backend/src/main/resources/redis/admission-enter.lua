@@ -0,0 +1,39 @@
+-- 대기열 입장/상태 확인 (같은 사용자가 반복 호출해도 순번 유지)
+-- 대기열이 비어 있고 토큰 버킷에 여유가 있으면 바로 입장, 아니면 도착 순서(FIFO)로 대기열에 추가
+-- KEYS[1]: 토큰 버킷 해시 (tokens, ts), KEYS[2]: 대기열 ZSET (점수 = 도착 순번), KEYS[3]: 입장권 키
+-- KEYS[4]: 도착 순번 카운터, KEYS[5]: 대기열이 있는 상품 SET
+-- ARGV[1]: 현재 시각 (ms), ARGV[2]: 초당 입장 수, ARGV[3]: 버킷 크기, ARGV[4]: 사용자 ID
+-- ARGV[5]: 입장권 TTL (ms), ARGV[6]: 상품 ID
+-- 반환: 0 입장 가능, n > 0 대기 순번 (1부터)
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    return 0
+end
+local rank = redis.call('ZRANK', KEYS[2], ARGV[4])
+if rank then
+    return rank + 1
+end
+
+if redis.call('ZCARD', KEYS[2]) == 0 then
+    local now = tonumber(ARGV[1])
+    local rate = tonumber(ARGV[2])
+    local burst = tonumber(ARGV[3])
+    local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+    local tokens = tonumber(bucket[1]) or burst
+    local ts = tonumber(bucket[2]) or now
+    tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+    local admitted = tokens >= 1
+    if admitted then
+        tokens = tokens - 1
+    end
+    redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', ARGV[1])
+    redis.call('PEXPIRE', KEYS[1], 3600000)
+    if admitted then
+        redis.call('SET', KEYS[3], '1', 'PX', ARGV[5])
+        return 0
+    end
+end
+
+local seq = redis.call('INCR', KEYS[4])
+redis.call('ZADD', KEYS[2], seq, ARGV[4])
+redis.call('SADD', KEYS[5], ARGV[6])
+return redis.call('ZCARD', KEYS[2])
@@ -0,0 +1,22 @@
+-- 장바구니 담기: 처음 담는 상품이면 스냅샷 저장, 수량 증가, TTL 갱신을 한 번에 (동시 담기에도 수량 유실 없음)
+-- KEYS[1]: 장바구니 해시
+-- ARGV[1]: 상품 필드, ARGV[2]: 수량 필드, ARGV[3]: 상품 스냅샷 (직렬화된 값, 담은 시각 포함)
+-- ARGV[4]: 담을 수량, ARGV[5]: TTL (ms, 0이면 갱신하지 않음 - 일괄 처리에서 마지막에 한 번만 갱신)
+-- 반환: {저장된 상품 스냅샷 (처음 담은 시각 유지), 담은 뒤 수량}
+local quantity
+if redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[3]) == 1 then
+    quantity = tonumber(ARGV[4])
+    redis.call('HSET', KEYS[1], ARGV[2], quantity)
+else
+    if redis.call('HEXISTS', KEYS[1], ARGV[2]) == 0 then
+        -- 수량 필드가 없는 이전 형식 항목은 스냅샷(JSON) 안의 수량에서 이어서 증가
+        local ok, legacy = pcall(cjson.decode, redis.call('HGET', KEYS[1], ARGV[1]))
+        local legacyQuantity = ok and type(legacy) == 'table' and tonumber(legacy['quantity']) or 0
+        redis.call('HSET', KEYS[1], ARGV[2], legacyQuantity)
+    end
+    quantity = redis.call('HINCRBY', KEYS[1], ARGV[2], ARGV[4])
+end
+if tonumber(ARGV[5]) > 0 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[5])
+end
+return {redis.call('HGET', KEYS[1], ARGV[1]), quantity}
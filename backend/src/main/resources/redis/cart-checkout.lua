@@ -0,0 +1,6 @@
+-- 주문 확정 시 장바구니 꺼내기: 전체 조회와 삭제를 한 번에 (사이에 담긴 상품이 주문에 빠지거나 남지 않음)
+-- KEYS[1]: 장바구니 해시
+-- 반환: HGETALL 결과 (필드, 값, 필드, 값, ...), 장바구니가 없으면 빈 목록
+local entries = redis.call('HGETALL', KEYS[1])
+redis.call('DEL', KEYS[1])
+return entries
@@ -0,0 +1,13 @@
+-- 장바구니 수량 변경: 담겨 있는 상품일 때만 수량 설정 + TTL 갱신
+-- KEYS[1]: 장바구니 해시
+-- ARGV[1]: 상품 필드, ARGV[2]: 수량 필드, ARGV[3]: 새 수량, ARGV[4]: TTL (ms, 0이면 갱신하지 않음)
+-- 반환: {상품 스냅샷, 수량}, 담겨 있지 않으면 nil
+local item = redis.call('HGET', KEYS[1], ARGV[1])
+if not item then
+    return nil
+end
+redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+if tonumber(ARGV[4]) > 0 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[4])
+end
+return {item, tonumber(ARGV[3])}
@@ -0,0 +1,14 @@
+-- 예약 확정: 결제가 끝난 예약 수량을 DB 반영 대기 해시로 옮김 (가용 재고는 예약 시 이미 차감됨)
+-- KEYS[1]: 예약 해시, KEYS[2]: 예약 만료 ZSET, KEYS[3]: DB 반영 대기 해시 (상품 ID -> 누적 차감 수량)
+-- ARGV[1]: 예약 ID (ZSET 멤버)
+-- 반환: 1 확정, 0 예약 없음 (만료되어 회수됐거나 이미 확정/해제됨)
+local items = redis.call('HGETALL', KEYS[1])
+if #items == 0 then
+    return 0
+end
+for i = 1, #items, 2 do
+    redis.call('HINCRBY', KEYS[3], items[i], items[i + 1])
+end
+redis.call('DEL', KEYS[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+return 1
@@ -0,0 +1,19 @@
+-- DB 반영 대기분 가져오기: 대기 해시를 처리 중 해시로 옮겨 반환 (이후 확정분은 새 대기 해시에 쌓임)
+-- 한 번에 한 인스턴스만 반영하도록 처리 중 해시의 소유자를 임대 시간 동안 기록
+-- 이전 반영이 실패해 처리 중 해시가 남아 있으면 그것을 다시 반환
+-- KEYS[1]: DB 반영 대기 해시, KEYS[2]: 처리 중 해시, KEYS[3]: 소유자
+-- ARGV[1]: 인스턴스 ID, ARGV[2]: 임대 시간 (ms)
+-- 반환: 상품 ID, 수량 평탄 배열 (다른 인스턴스가 반영 중이면 빈 배열)
+local owner = redis.call('GET', KEYS[3])
+if owner and owner ~= ARGV[1] then
+    return {}
+end
+redis.call('SET', KEYS[3], ARGV[1], 'PX', ARGV[2])
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        return {}
+    end
+    redis.call('RENAME', KEYS[1], KEYS[2])
+end
+return redis.call('HGETALL', KEYS[2])
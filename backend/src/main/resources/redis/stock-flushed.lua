@@ -0,0 +1,9 @@
+-- DB 반영 완료: 소유자가 자신일 때만 처리 중 해시 삭제
+-- KEYS[1]: 처리 중 해시, KEYS[2]: 소유자
+-- ARGV[1]: 인스턴스 ID
+-- 반환: 1 삭제, 0 소유권을 잃음 (임대 만료)
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+redis.call('DEL', KEYS[1])
+return 1
@@ -0,0 +1,23 @@
+-- 예약 해제: 예약 수량을 가용 재고로 되돌림 (결제 실패/취소, 만료 회수)
+-- KEYS[1]: 예약 해시, KEYS[2]: 예약 만료 ZSET, KEYS[3..]: 예약된 상품별 가용 재고 카운터
+-- ARGV[1]: 예약 ID (ZSET 멤버), ARGV[2..]: 상품 ID (KEYS[3..]과 같은 순서, 호출 전에 예약 해시에서 읽음)
+-- 반환: 되돌린 상품 수 (이미 확정/해제된 예약이면 0), -1 예약 해시의 상품이 ARGV와 다름 (다시 읽어 재시도)
+local count = #KEYS - 2
+local held = redis.call('HLEN', KEYS[1])
+if held > 0 then
+    if held ~= count then
+        return -1
+    end
+    local quantities = redis.call('HMGET', KEYS[1], unpack(ARGV, 2, count + 1))
+    for i = 1, count do
+        if not quantities[i] then
+            return -1
+        end
+    end
+    for i = 1, count do
+        redis.call('INCRBY', KEYS[i + 2], quantities[i])
+    end
+end
+redis.call('DEL', KEYS[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+return held
@@ -0,0 +1,27 @@
+-- 재고 예약: 모든 상품의 가용 재고가 충분할 때만 한꺼번에 차감 (전부 아니면 전무)
+-- KEYS[1]: 예약 해시 (상품 ID -> 수량), KEYS[2]: 예약 만료 ZSET, KEYS[3..]: 상품별 가용 재고 카운터
+-- ARGV[1]: 예약 ID (ZSET 멤버), ARGV[2]: 만료 시각 (epoch ms), ARGV[3]: 예약 해시 TTL (ms)
+-- ARGV[4..]: 상품 ID, 수량 쌍 (KEYS[3..]과 같은 순서)
+-- 반환: 0 예약됨 (이미 같은 예약이 있어도 0), i > 0 i번째 상품 재고 부족, -i i번째 상품 카운터 없음
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+local count = #KEYS - 2
+for i = 1, count do
+    local available = redis.call('GET', KEYS[i + 2])
+    if not available then
+        return -i
+    end
+    if tonumber(available) < tonumber(ARGV[3 + 2 * i]) then
+        return i
+    end
+end
+
+for i = 1, count do
+    redis.call('DECRBY', KEYS[i + 2], ARGV[3 + 2 * i])
+    redis.call('HSET', KEYS[1], ARGV[2 + 2 * i], ARGV[3 + 2 * i])
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+return 0
@@ -0,0 +1,47 @@
+package com.clone.backend.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionTokenSignerTest {
+
+    private static final long NOW = 1_800_000_000_000L;
+
+    private final AdmissionTokenSigner signer = new AdmissionTokenSigner("admission-test-secret");
+
+    @Test
+    void verify_AcceptsOwnTokenUntilExpiry() {
+        String token = signer.issue(7L, 42L, NOW + 60_000);
+
+        assertTrue(signer.verify(token, 7L, 42L, NOW));
+        assertFalse(signer.verify(token, 7L, 42L, NOW + 60_000));
+    }
+
+    @Test
+    void verify_RejectsOtherUserProductOrSecret() {
+        String token = signer.issue(7L, 42L, NOW + 60_000);
+
+        assertFalse(signer.verify(token, 8L, 42L, NOW));
+        assertFalse(signer.verify(token, 7L, 43L, NOW));
+        assertFalse(new AdmissionTokenSigner("other-secret").verify(token, 7L, 42L, NOW));
+    }
+
+    @Test
+    void verify_RejectsTamperedOrMalformedTokens() {
+        String token = signer.issue(7L, 42L, NOW + 60_000);
+        String extended = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("7:42:9999999999999".getBytes(StandardCharsets.UTF_8));
+        String forged = extended + token.substring(token.indexOf('.'));
+
+        assertFalse(signer.verify(forged, 7L, 42L, NOW));
+        assertFalse(signer.verify(token.substring(0, token.length() - 2), 7L, 42L, NOW));
+        assertFalse(signer.verify("not-a-token", 7L, 42L, NOW));
+        assertFalse(signer.verify("%%%.%%%", 7L, 42L, NOW));
+        assertFalse(signer.verify(null, 7L, 42L, NOW));
+    }
+}
@@ -0,0 +1,107 @@
+package com.clone.backend.cache;
+
+import com.clone.backend.model.RedisCartItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CartNearCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Test
+    void userIdOf_ParsesCartKeyspaceChannels() {
+        assertEquals(42L, CartNearCache.userIdOf("__keyspace@0__:cart:42"));
+        assertEquals(7L, CartNearCache.userIdOf("__keyspace@15__:cart:7"));
+    }
+
+    @Test
+    void userIdOf_IgnoresOtherChannels() {
+        assertNull(CartNearCache.userIdOf("__keyspace@0__:stock:42"));
+        assertNull(CartNearCache.userIdOf("__keyspace@0__:cart:abc"));
+        assertNull(CartNearCache.userIdOf("cart:42"));
+    }
+
+    @Test
+    void missingFlags_AddsOnlyWhatIsNotEnabled() {
+        assertEquals("Kghxe", CartNearCache.missingFlags("", "Kghxe"));
+        assertEquals("gh", CartNearCache.missingFlags("Kxe", "Kghxe"));
+        assertEquals("", CartNearCache.missingFlags("KA", "Kghxe"));
+        assertEquals("K", CartNearCache.missingFlags("Ex$", "Kx"));
+    }
+
+    @Test
+    void get_CachesUntilInvalidated() {
+        CartNearCache cache = enabledCache();
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, List<RedisCartItem>> loader = userId -> {
+            loads.incrementAndGet();
+            return List.of(item());
+        };
+
+        cache.get(42L, loader);
+        cache.get(42L, loader);
+        assertEquals(1, loads.get());
+
+        cache.invalidate(42L);
+        cache.get(42L, loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_DoesNotKeepLoadOverlappingInvalidation() {
+        CartNearCache cache = enabledCache();
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, List<RedisCartItem>> loader = userId -> {
+            // 첫 조회가 Redis를 읽는 동안 다른 요청이 장바구니를 바꿈
+            if (loads.incrementAndGet() == 1) {
+                cache.invalidate(userId);
+            }
+            return List.of(item());
+        };
+
+        cache.get(42L, loader);
+        cache.get(42L, loader);
+        assertEquals(2, loads.get());
+
+        // 무효화가 끼지 않은 두 번째 조회 결과는 캐시됨
+        cache.get(42L, loader);
+        assertEquals(2, loads.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CartNearCache enabledCache() {
+        Properties config = new Properties();
+        config.setProperty("notify-keyspace-events", "Kghxe");
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(config);
+
+        CartNearCache cache = new CartNearCache(redisTemplate, listenerContainer, new SimpleMeterRegistry(), true,
+                100, Duration.ofMinutes(1), "Kghxe");
+        cache.enableNotifications();
+        return cache;
+    }
+
+    private static RedisCartItem item() {
+        return RedisCartItem.builder().productId(1L).productName("상품").price(1000).quantity(1).build();
+    }
+}
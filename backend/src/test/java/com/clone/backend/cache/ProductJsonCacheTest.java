@@ -0,0 +1,95 @@
+package com.clone.backend.cache;
+
+import com.clone.backend.catalog.CatalogChangedEvent;
+import com.clone.backend.catalog.CatalogVersion;
+import com.clone.backend.dto.ProductPage;
+import com.clone.backend.model.Product;
+import com.clone.backend.search.ProductSort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductJsonCacheTest {
+
+    private static final ProductQuery TIME_DEALS = new ProductQuery(null, null, "timedeal", null, ProductSort.ID,
+            null, 20);
+
+    private CatalogVersion catalogVersion;
+    private ProductJsonCache cache;
+    private AtomicInteger loads;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        cache = new ProductJsonCache(catalogVersion, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(), 16, 256);
+        loads = new AtomicInteger();
+        products = new ArrayList<>(List.of(product(1L, "신라면")));
+    }
+
+    @Test
+    void get_RendersOncePerCatalogVersion() {
+        ProductJsonCache.Rendered first = load(TIME_DEALS);
+        assertSame(first, load(TIME_DEALS));
+        assertEquals(1, loads.get());
+
+        products.add(product(2L, "진라면"));
+        catalogVersion.onCatalogChanged(new CatalogChangedEvent(null));
+        ProductJsonCache.Rendered second = load(TIME_DEALS);
+
+        assertEquals(2, loads.get());
+        assertTrue(new String(second.getJson(), StandardCharsets.UTF_8).contains("진라면"));
+        assertFalse(new String(first.getJson(), StandardCharsets.UTF_8).contains("진라면"));
+    }
+
+    @Test
+    void get_GzipsOnlyLargeLists() throws IOException {
+        assertNull(load(TIME_DEALS).getGzip());
+
+        for (long id = 2; id <= 20; id++) {
+            products.add(product(id, "타임딜 상품 " + id));
+        }
+        catalogVersion.onCatalogChanged(new CatalogChangedEvent(null));
+        ProductJsonCache.Rendered rendered = load(TIME_DEALS);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(rendered.getGzip()))) {
+            assertArrayEquals(rendered.getJson(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void supports_OnlyHotListsWithoutSearch() {
+        assertTrue(cache.supports(TIME_DEALS));
+        assertTrue(cache.supports(new ProductQuery(null, null, "best", null, ProductSort.RANK, null, 20)));
+        assertFalse(cache.supports(new ProductQuery(null, "라면", "timedeal", null, ProductSort.RELEVANCE, null, 20)));
+        assertFalse(cache.supports(new ProductQuery("food", null, null, null, ProductSort.ID, null, 20)));
+    }
+
+    private ProductJsonCache.Rendered load(ProductQuery query) {
+        return cache.get(query, key -> {
+            loads.incrementAndGet();
+            return new ProductPage(List.copyOf(products), null);
+        });
+    }
+
+    private Product product(Long id, String name) {
+        return Product.builder().id(id).name(name).category("food").price(4500).isTimeDeal(true).build();
+    }
+}
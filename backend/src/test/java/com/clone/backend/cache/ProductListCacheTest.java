@@ -0,0 +1,121 @@
+package com.clone.backend.cache;
+
+import com.clone.backend.catalog.CatalogChangedEvent;
+import com.clone.backend.catalog.ProductChange;
+import com.clone.backend.dto.ProductPage;
+import com.clone.backend.model.Product;
+import com.clone.backend.search.PriceRange;
+import com.clone.backend.search.ProductSort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProductListCacheTest {
+
+    private ProductListCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        Duration ttl = Duration.ofMinutes(5);
+        cache = new ProductListCache(new SimpleMeterRegistry(), 1 << 20, ttl, ttl, ttl, ttl);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_SharesEntryForEquivalentParameters() {
+        load(new ProductQuery("all", null, null, null, ProductSort.ID, null, 20));
+        load(new ProductQuery(null, null, "unknown", null, ProductSort.ID, null, 20));
+        load(new ProductQuery(null, "[삼성]  모니터", null, null, ProductSort.RELEVANCE, null, 20));
+        load(new ProductQuery(null, "삼성 모니터", null, null, ProductSort.RELEVANCE, null, 20));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onCatalogChanged_InvalidatesOnlyAffectedPages() {
+        ProductQuery food = new ProductQuery("food", null, null, null, ProductSort.ID, null, 20);
+        ProductQuery fashion = new ProductQuery("fashion", null, null, PriceRange.UNDER_10K, ProductSort.ID, null, 20);
+        load(food);
+        load(fashion);
+
+        // 식품 페이지에 있는 상품 변경 -> 식품만 무효화
+        changed(ProductChange.Type.UPDATE, product(1L, "food", 3000));
+        load(food);
+        load(fashion);
+        assertEquals(3, loads.get());
+
+        // 패션 저가 조건에 새로 들어갈 수 있는 상품 추가 -> 패션만 무효화
+        changed(ProductChange.Type.INSERT, product(9L, "fashion", 9000));
+        load(food);
+        load(fashion);
+        assertEquals(4, loads.get());
+
+        // 어느 조건에도 맞지 않는 상품 추가 -> 유지
+        changed(ProductChange.Type.INSERT, product(10L, "fashion", 90000));
+        load(food);
+        load(fashion);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void onCatalogChanged_KeepsPagesOnStockOnlyChange() {
+        ProductQuery food = new ProductQuery("food", null, null, null, ProductSort.ID, null, 20);
+        load(food);
+        Product product = product(1L, "food", 2000);
+        cache.onCatalogChanged(new CatalogChangedEvent(
+                new ProductChange(ProductChange.Type.UPDATE, product.getId(), product, "test"), true));
+        load(food);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void onCatalogChanged_ClearsEverythingOnReload() {
+        ProductQuery food = new ProductQuery("food", null, null, null, ProductSort.ID, null, 20);
+        load(food);
+        cache.onCatalogChanged(new CatalogChangedEvent(null));
+        load(food);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_DoesNotKeepLoadOverlappingInvalidation() {
+        ProductQuery food = new ProductQuery("food", null, null, null, ProductSort.ID, null, 20);
+        // 첫 조회가 인덱스를 읽는 동안 같은 카테고리 상품이 바뀜 (아직 색인 전이라 무효화가 항목을 찾지 못함)
+        cache.get(food, q -> {
+            loads.incrementAndGet();
+            changed(ProductChange.Type.UPDATE, product(1L, "food", 3000));
+            return new ProductPage(List.of(product(1L, "food", 2000)), null);
+        });
+        load(food);
+        assertEquals(2, loads.get());
+
+        // 무효화가 끼지 않은 두 번째 조회 결과는 캐시됨
+        load(food);
+        assertEquals(2, loads.get());
+    }
+
+    private ProductPage load(ProductQuery query) {
+        return cache.get(query, q -> {
+            loads.incrementAndGet();
+            Product item = "food".equals(q.getCategory()) ? product(1L, "food", 2000) : product(2L, "fashion", 5000);
+            return new ProductPage(List.of(item), null);
+        });
+    }
+
+    private void changed(ProductChange.Type type, Product product) {
+        cache.onCatalogChanged(new CatalogChangedEvent(new ProductChange(type, product.getId(), product, "test")));
+    }
+
+    private Product product(Long id, String category, int price) {
+        return Product.builder().id(id).name("상품 " + id).category(category).price(price).build();
+    }
+}
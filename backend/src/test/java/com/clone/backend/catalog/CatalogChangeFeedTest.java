@@ -0,0 +1,142 @@
+package com.clone.backend.catalog;
+
+import com.clone.backend.model.Product;
+import com.clone.backend.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CatalogChangeFeedTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private CatalogIndex index;
+    @Mock
+    private CatalogReadModel readModel;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private CatalogChangeFeed feed;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        feed = new CatalogChangeFeed(productRepository, List.of(index), readModel, redisTemplate, new ObjectMapper(),
+                listenerContainer, eventPublisher, transactionTemplate);
+
+        List<Product> catalog = List.of(product(1L, T0), product(2L, T0.plusSeconds(1)));
+        when(productRepository.findAll()).thenReturn(catalog);
+        when(productRepository.count()).thenReturn(2L);
+        feed.initialize();
+        clearInvocations(index, eventPublisher);
+    }
+
+    @Test
+    void pollExternalChanges_IdlePollPublishesNothing() {
+        // 워터마크 겹침 구간 때문에 가장 최근 행은 매번 다시 조회됨
+        when(productRepository.findByUpdatedAtAfter(any())).thenReturn(List.of(product(2L, T0.plusSeconds(1))));
+
+        feed.pollExternalChanges();
+        feed.pollExternalChanges();
+
+        verify(index, never()).upsert(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void pollExternalChanges_AppliesNewerVersionOnce() {
+        Product changed = product(2L, T0.plusSeconds(30));
+        when(productRepository.findByUpdatedAtAfter(any())).thenReturn(List.of(changed));
+
+        feed.pollExternalChanges();
+        feed.pollExternalChanges();
+
+        verify(index, times(1)).upsert(changed);
+        verify(eventPublisher, times(1)).publishEvent(any(CatalogChangedEvent.class));
+    }
+
+    @Test
+    void publishUpdated_SkipsRowsAlreadyApplied() {
+        when(productRepository.findAllById(any())).thenReturn(List.of(product(1L, T0)));
+
+        feed.publishUpdated(List.of(1L));
+
+        verify(index, never()).upsert(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void publishUpdated_MarksStockOnlyChanges() {
+        Product before = product(1L, T0);
+        before.setStockQuantity(10);
+        Product stockChanged = product(1L, T0.plusSeconds(10));
+        stockChanged.setStockQuantity(9);
+        Product priceChanged = product(1L, T0.plusSeconds(20));
+        priceChanged.setPrice(900);
+        when(readModel.findById(1L)).thenReturn(Optional.of(before));
+
+        when(productRepository.findAllById(any())).thenReturn(List.of(stockChanged));
+        feed.publishUpdated(List.of(1L));
+        when(productRepository.findAllById(any())).thenReturn(List.of(priceChanged));
+        feed.publishUpdated(List.of(1L));
+
+        ArgumentCaptor<CatalogChangedEvent> events = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertTrue(events.getAllValues().get(0).isStockOnly());
+        assertFalse(events.getAllValues().get(1).isStockOnly());
+    }
+
+    @Test
+    void publish_IgnoresOlderVersionThanApplied() {
+        Product newer = product(1L, T0.plusSeconds(30));
+        when(productRepository.findAllById(any())).thenReturn(List.of(newer));
+        feed.publishUpdated(List.of(1L));
+
+        // 먼저 읽었지만 늦게 도착한 이전 버전
+        feed.publish(ProductChange.Type.UPDATE, product(1L, T0.plusSeconds(10)));
+
+        verify(index, times(1)).upsert(any());
+        verify(index).upsert(newer);
+    }
+
+    private static Product product(Long id, LocalDateTime updatedAt) {
+        return Product.builder().id(id).name("상품" + id).price(1000).updatedAt(updatedAt).build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.clone.backend.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogRecordReaderTest {
+
+    @Test
+    void next_ReadsQuotedCsvInColumnOrder() throws IOException {
+        String csv = "name,sku,price,isTimeDeal,stock_quantity,unknown\r\n"
+                + "\"감귤, 5kg \"\"특가\"\"\",P1,12500,t,95,x\r\n"
+                + "\r\n"
+                + "\"두 줄\n이름\",P2,,false,,\n";
+
+        try (CatalogRecordReader reader = new CatalogRecordReader(new StringReader(csv),
+                CatalogRecordReader.Format.CSV)) {
+            assertArrayEquals(new String[] { "P1", "감귤, 5kg \"특가\"", "12500", null, null, null, null, "true",
+                    null, null, null, "95" }, reader.next());
+            assertArrayEquals(new String[] { "P2", "두 줄\n이름", null, null, null, null, null, "false",
+                    null, null, null, null }, reader.next());
+            assertNull(reader.next());
+            assertEquals(2, reader.getRecordNumber());
+        }
+    }
+
+    @Test
+    void next_ReadsNdjsonAndNormalizesTimestamps() throws IOException {
+        String ndjson = "{\"sku\":\"P1\",\"name\":\"햇반\",\"price\":25600,\"isBest\":true,\"rank\":1,"
+                + "\"timeDealEndTime\":\"2030-01-01 09:30:00\",\"imageUrl\":null}\n\n";
+
+        try (CatalogRecordReader reader = new CatalogRecordReader(new StringReader(ndjson),
+                CatalogRecordReader.Format.NDJSON)) {
+            String[] values = reader.next();
+            assertEquals("25600", values[2]);
+            assertNull(values[5]);
+            assertEquals("2030-01-01T09:30", values[8]);
+            assertEquals("true", values[9]);
+            assertEquals("1", values[10]);
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void next_RejectsInvalidRowsWithLineNumber() {
+        CatalogRecordReader badPrice = new CatalogRecordReader(new StringReader("sku,name,price\nP1,a,1\nP2,b,free\n"),
+                CatalogRecordReader.Format.CSV);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> {
+            badPrice.next();
+            badPrice.next();
+        });
+        assertTrue(e.getMessage().startsWith("Line 3"));
+
+        CatalogRecordReader missingSku = new CatalogRecordReader(new StringReader("{\"name\":\"a\"}"),
+                CatalogRecordReader.Format.NDJSON);
+        assertThrows(IllegalArgumentException.class, missingSku::next);
+    }
+
+    @Test
+    void appendRow_QuotesValuesAndLeavesNullsEmpty() {
+        StringBuilder out = new StringBuilder();
+        CatalogBulkLoader.appendRow(out, 7, new String[] { "P1", "a \"b\"", null, "" });
+
+        assertEquals("7,\"P1\",\"a \"\"b\"\"\",,\"\"\n", out.toString());
+    }
+}
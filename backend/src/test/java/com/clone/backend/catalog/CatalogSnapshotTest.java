@@ -0,0 +1,88 @@
+package com.clone.backend.catalog;
+
+import com.clone.backend.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogSnapshotTest {
+
+    private static final LocalDateTime END_TIME = LocalDateTime.of(2026, 1, 1, 12, 30, 15, 123_456_000);
+
+    @Test
+    void build_RoundTripsAllColumns() {
+        CatalogSnapshot snapshot = CatalogSnapshot.build(List.of(
+                product(3L, "LG 그램 노트북", "electronics", 1500000),
+                timeDeal(1L, "농심 신라면", "food", 4500),
+                product(2L, "이름 없는 상품", null, 0)));
+
+        assertEquals(3, snapshot.size());
+        Product noodle = snapshot.get(1L);
+        assertEquals("농심 신라면", noodle.getName());
+        assertEquals("food", noodle.getCategory());
+        assertEquals(4500, noodle.getPrice());
+        assertTrue(noodle.isTimeDeal());
+        assertEquals(END_TIME, noodle.getTimeDealEndTime());
+        assertEquals(7, noodle.getRank());
+
+        Product unnamed = snapshot.get(2L);
+        assertNull(unnamed.getCategory());
+        assertNull(unnamed.getRank());
+        assertNull(unnamed.getTimeDealEndTime());
+        assertNull(snapshot.get(4L));
+    }
+
+    @Test
+    void withAndWithout_LeaveOriginalSnapshotUnchanged() {
+        CatalogSnapshot base = CatalogSnapshot.build(List.of(
+                product(1L, "신라면", "food", 4500),
+                product(2L, "모니터", "electronics", 300000)));
+
+        CatalogSnapshot changed = base
+                .with(product(1L, "신라면 5개입", "food", 4000))
+                .with(product(5L, "운동화", "fashion", 89000))
+                .without(2L);
+
+        assertEquals(2, changed.size());
+        assertEquals("신라면 5개입", changed.get(1L).getName());
+        assertFalse(changed.contains(2L));
+        assertTrue(changed.contains(5L));
+
+        assertEquals(2, base.size());
+        assertEquals("신라면", base.get(1L).getName());
+        assertTrue(base.contains(2L));
+    }
+
+    @Test
+    void compact_MergesOverlayIntoColumns() {
+        CatalogSnapshot compacted = CatalogSnapshot.build(List.of(
+                        product(1L, "신라면", "food", 4500),
+                        product(4L, "모니터", "electronics", 300000)))
+                .with(product(3L, "운동화", "fashion", 89000))
+                .with(product(9L, "상품권", "ticket", 50000))
+                .without(1L)
+                .compact();
+
+        assertEquals(0, compacted.overlaySize());
+        assertEquals(3, compacted.size());
+        assertNull(compacted.get(1L));
+        assertEquals("fashion", compacted.get(3L).getCategory());
+        assertEquals(300000, compacted.get(4L).getPrice());
+        assertEquals("ticket", compacted.get(9L).getCategory());
+    }
+
+    private Product product(Long id, String name, String category, int price) {
+        return Product.builder().id(id).name(name).category(category).price(price).build();
+    }
+
+    private Product timeDeal(Long id, String name, String category, int price) {
+        return Product.builder().id(id).name(name).category(category).price(price)
+                .isTimeDeal(true).timeDealEndTime(END_TIME).rank(7).build();
+    }
+}
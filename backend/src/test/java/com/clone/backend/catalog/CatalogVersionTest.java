@@ -0,0 +1,45 @@
+package com.clone.backend.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogVersionTest {
+
+    @Test
+    void onCatalogChanged_BumpsVersionAndETag() {
+        CatalogVersion catalogVersion = new CatalogVersion();
+        CatalogVersion.Stamp before = catalogVersion.current();
+
+        catalogVersion.onCatalogChanged(new CatalogChangedEvent(null));
+        CatalogVersion.Stamp after = catalogVersion.current();
+
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertNotEquals(before.getETag(), after.getETag());
+        assertTrue(after.getLastModified() >= before.getLastModified());
+        assertTrue(after.getETag().startsWith("\"") && after.getETag().endsWith("\""));
+    }
+
+    @Test
+    void onCatalogChanged_DefersStockOnlyChangesUntilFlush() {
+        CatalogVersion catalogVersion = new CatalogVersion();
+        long before = catalogVersion.current().getVersion();
+
+        catalogVersion.onCatalogChanged(new CatalogChangedEvent(new ProductChange(), true));
+        catalogVersion.onCatalogChanged(new CatalogChangedEvent(new ProductChange(), true));
+        assertEquals(before, catalogVersion.current().getVersion());
+
+        catalogVersion.flushStockChanges();
+        catalogVersion.flushStockChanges();
+        assertEquals(before + 1, catalogVersion.current().getVersion());
+    }
+
+    @Test
+    void current_IsStableWithoutChanges() {
+        CatalogVersion catalogVersion = new CatalogVersion();
+
+        assertEquals(catalogVersion.current().getETag(), catalogVersion.current().getETag());
+    }
+}
@@ -0,0 +1,64 @@
+package com.clone.backend.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SalesWindowTest {
+
+    private static final long BUCKET_MILLIS = 60_000L;
+
+    @Test
+    void estimate_NeverUnderCountsAndIsExactUnderLightLoad() {
+        SalesWindow window = new SalesWindow(4, BUCKET_MILLIS, 4, 1024);
+        for (long productId = 1; productId <= 200; productId++) {
+            window.record(productId, (int) (productId % 7) + 1, 0);
+        }
+        window.record(42L, 10, 1_000);
+
+        int exact = 0;
+        for (long productId = 1; productId <= 200; productId++) {
+            int actual = (int) (productId % 7) + 1 + (productId == 42L ? 10 : 0);
+            int estimate = window.estimate(productId, 1_000);
+            assertTrue(estimate >= actual);
+            if (estimate == actual) {
+                exact++;
+            }
+        }
+        assertTrue(exact >= 195);
+    }
+
+    @Test
+    void estimate_DropsBucketsThatLeftTheWindow() {
+        SalesWindow window = new SalesWindow(3, BUCKET_MILLIS, 4, 256);
+        window.record(1L, 5, 0);
+        window.record(1L, 3, BUCKET_MILLIS);
+        window.record(1L, 2, 2 * BUCKET_MILLIS);
+
+        assertEquals(10, window.estimate(1L, 2 * BUCKET_MILLIS));
+        assertEquals(5, window.estimate(1L, 3 * BUCKET_MILLIS));
+
+        // 첫 버킷 재사용 시 이전 판매량 제거
+        window.record(1L, 1, 3 * BUCKET_MILLIS);
+        assertEquals(6, window.estimate(1L, 3 * BUCKET_MILLIS));
+        assertEquals(0, window.estimate(1L, 10 * BUCKET_MILLIS));
+    }
+
+    @Test
+    void candidatePool_KeepsStrongestAndOrdersByEstimate() {
+        SalesWindow window = new SalesWindow(2, BUCKET_MILLIS, 4, 256);
+        CandidatePool pool = new CandidatePool(3);
+        int[][] sales = { { 1, 4 }, { 2, 9 }, { 3, 1 }, { 4, 9 }, { 5, 6 } };
+        for (int[] sale : sales) {
+            window.record(sale[0], sale[1], 0);
+            pool.offer(sale[0], window.estimate(sale[0], 0));
+        }
+
+        assertEquals(List.of(2L, 4L, 5L), pool.top(3, id -> window.estimate(id, 0)));
+        assertEquals(List.of(2L, 4L), pool.top(2, id -> window.estimate(id, 0)));
+        assertTrue(pool.top(3, id -> window.estimate(id, 5 * BUCKET_MILLIS)).isEmpty());
+    }
+}
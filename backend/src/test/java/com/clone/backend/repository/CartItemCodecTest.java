@@ -0,0 +1,114 @@
+package com.clone.backend.repository;
+
+import com.clone.backend.config.RedisConfig;
+import com.clone.backend.model.RedisCartItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CartItemCodecTest {
+
+    private static final String IMAGE = "https://cdn.example.com/products/42.jpg";
+
+    private final RedisSerializer<Object> json = RedisConfig.jsonSerializer();
+    private final Map<Long, String> catalogImages = Map.of(42L, IMAGE);
+    private final CartItemCodec binary =
+            new CartItemCodec(CartItemCodec.Format.BINARY, json, catalogImages::get);
+
+    @Test
+    void binary_RoundTripsAllFields() {
+        RedisCartItem item = item(IMAGE);
+
+        RedisCartItem decoded = binary.decode(binary.encode(item));
+
+        assertSameItem(item, decoded);
+    }
+
+    @Test
+    void binary_StoresCatalogImageAsReference() {
+        byte[] referenced = binary.encode(item(IMAGE));
+        byte[] inline = binary.encode(item("https://cdn.example.com/custom/42.jpg"));
+
+        assertFalse(new String(referenced, StandardCharsets.UTF_8).contains("cdn.example.com"));
+        assertTrue(inline.length > referenced.length);
+        assertEquals("https://cdn.example.com/custom/42.jpg", binary.decode(inline).getProductImage());
+    }
+
+    @Test
+    void binary_KeepsNullsAndNegativeNumbers() {
+        RedisCartItem item = RedisCartItem.builder().price(-1).quantity(0).build();
+
+        RedisCartItem decoded = binary.decode(binary.encode(item));
+
+        assertNull(decoded.getProductId());
+        assertNull(decoded.getProductName());
+        assertNull(decoded.getProductImage());
+        assertNull(decoded.getAddedAt());
+        assertEquals(-1, decoded.getPrice());
+    }
+
+    @Test
+    void binary_IsMuchSmallerThanJson() {
+        RedisCartItem item = item(IMAGE);
+
+        int binarySize = binary.encode(item).length;
+        int jsonSize = json.serialize(item).length;
+
+        assertTrue(binarySize * 3 < jsonSize, binarySize + " vs " + jsonSize);
+    }
+
+    @Test
+    void decode_ReadsLegacyJsonValues() {
+        RedisCartItem item = item(IMAGE);
+
+        assertSameItem(item, binary.decode(json.serialize(item)));
+
+        CartItemCodec jsonCodec = new CartItemCodec(CartItemCodec.Format.JSON, json, catalogImages::get);
+        assertEquals('{', jsonCodec.encode(item)[0]);
+        assertSameItem(item, jsonCodec.decode(jsonCodec.encode(item)));
+    }
+
+    @Test
+    void decode_RejectsUnknownOrTruncatedValues() {
+        byte[] encoded = binary.encode(item(IMAGE));
+
+        assertNull(binary.decode(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> binary.decode(new byte[] { 9, 0 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> binary.decode(Arrays.copyOf(encoded, encoded.length - 3)));
+    }
+
+    private static RedisCartItem item(String image) {
+        return RedisCartItem.builder()
+                .productId(42L)
+                .productName("[삼성] 무선 청소기 모델A123 블랙")
+                .productImage(image)
+                .price(189_000)
+                .originalPrice(210_000)
+                .discountRate(10)
+                .quantity(3)
+                .addedAt(LocalDateTime.of(2026, 10, 18, 14, 30, 15, 123_000_000))
+                .build();
+    }
+
+    private static void assertSameItem(RedisCartItem expected, RedisCartItem actual) {
+        assertEquals(expected.getProductId(), actual.getProductId());
+        assertEquals(expected.getProductName(), actual.getProductName());
+        assertEquals(expected.getProductImage(), actual.getProductImage());
+        assertEquals(expected.getPrice(), actual.getPrice());
+        assertEquals(expected.getOriginalPrice(), actual.getOriginalPrice());
+        assertEquals(expected.getDiscountRate(), actual.getDiscountRate());
+        assertEquals(expected.getQuantity(), actual.getQuantity());
+        assertEquals(expected.getAddedAt(), actual.getAddedAt());
+    }
+}
@@ -0,0 +1,33 @@
+package com.clone.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EditDistanceTest {
+
+    @Test
+    void levenshtein_CountsEdits() {
+        assertEquals(0, EditDistance.levenshtein("모니터", "모니터"));
+        assertEquals(1, EditDistance.levenshtein("모니터", "모니타"));
+        assertEquals(2, EditDistance.levenshtein("노트북", "노북"));
+        assertEquals(3, EditDistance.levenshtein("", "냉장고"));
+    }
+
+    @Test
+    void bounded_StopsOnceThresholdIsExceeded() {
+        int max = 2 * EditDistance.UNIT;
+        assertEquals(max + 1, EditDistance.bounded("갤럭시버즈", "에어팟", max, false));
+        assertEquals(max + 1, EditDistance.bounded("라면", "라면라면라면", max, false));
+        assertEquals(EditDistance.UNIT, EditDistance.bounded("세탁기", "세탁", max, false));
+    }
+
+    @Test
+    void bounded_JamoAwareMakesSimilarSyllablesCheap() {
+        // '산' -> '신': 중성만 다름
+        assertEquals(1, EditDistance.bounded("산라면", "신라면", EditDistance.UNIT, true));
+        // '간' -> '심': 초성/중성/종성 모두 다름
+        assertEquals(EditDistance.UNIT, EditDistance.bounded("간라면", "심라면", EditDistance.UNIT, true));
+        assertEquals(EditDistance.UNIT, EditDistance.bounded("산라면", "신라면", EditDistance.UNIT, false));
+    }
+}
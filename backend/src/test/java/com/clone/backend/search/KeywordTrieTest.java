@@ -0,0 +1,25 @@
+package com.clone.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KeywordTrieTest {
+
+    private final KeywordTrie trie = KeywordTrie.build(Map.of("모니터", 3.0, "모니터암", 5.0, "마우스", 1.0), 10);
+
+    @Test
+    void complete_ReturnsPrefixMatchesByWeight() {
+        assertEquals(List.of("모니터암", "모니터"), trie.complete("모니", 10));
+        assertEquals(List.of("모니터암"), trie.complete("모", 1));
+    }
+
+    @Test
+    void complete_ReturnsEmptyForNonPositiveLimit() {
+        assertEquals(List.of(), trie.complete("모", 0));
+        assertEquals(List.of(), trie.complete("모", -1));
+    }
+}
@@ -0,0 +1,56 @@
+package com.clone.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostingListTest {
+
+    private final PostingList base = PostingList.of(new int[] { 3, 10, 200, 5000 }, 4);
+
+    @Test
+    void withAndWithout_MergePendingChangesIntoReads() {
+        PostingList changed = base.with(1).with(300).without(10).without(5000).with(10);
+
+        assertTrue(changed.hasPending());
+        assertEquals(5, changed.size());
+        assertArrayEquals(new int[] { 1, 3, 10, 200, 300 }, changed.toArray());
+        assertSame(changed, changed.with(300));
+        assertSame(changed, changed.without(5000));
+    }
+
+    @Test
+    void merged_ReencodesSameDocIds() {
+        PostingList changed = base.with(7).without(200);
+        PostingList merged = changed.merged();
+
+        assertFalse(merged.hasPending());
+        assertArrayEquals(changed.toArray(), merged.toArray());
+        assertSame(merged, merged.merged());
+    }
+
+    @Test
+    void cursorAdvance_SkipsRemovedAndVisitsAdded() {
+        PostingList.Cursor cursor = base.with(150).without(200).cursor();
+
+        assertEquals(10, cursor.advance(4));
+        assertEquals(150, cursor.advance(11));
+        assertEquals(5000, cursor.advance(151));
+        assertEquals(-1, cursor.advance(5001));
+    }
+
+    @Test
+    void with_MergesAutomaticallyWhenPendingGrowsLarge() {
+        PostingList list = PostingList.EMPTY;
+        for (int docId = 1; docId <= PostingList.MAX_PENDING + 1; docId++) {
+            list = list.with(docId);
+        }
+
+        assertFalse(list.hasPending());
+        assertEquals(PostingList.MAX_PENDING + 1, list.size());
+    }
+}
@@ -0,0 +1,31 @@
+package com.clone.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProductCursorTest {
+
+    @Test
+    void decode_RoundTripsEncodedCursor() {
+        ProductCursor cursor = ProductCursor.decode(new ProductCursor(-15000, 42L).encode());
+
+        assertEquals(-15000, cursor.getKey());
+        assertEquals(42L, cursor.getId());
+    }
+
+    @Test
+    void decode_RejectsMalformedOrOutOfRangeCursor() {
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode(encode("0:9999999999")));
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode(encode("0:-1")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
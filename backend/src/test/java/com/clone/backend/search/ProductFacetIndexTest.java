@@ -0,0 +1,75 @@
+package com.clone.backend.search;
+
+import com.clone.backend.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProductFacetIndexTest {
+
+    private final ProductFacetIndex index = new ProductFacetIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild(List.of(product(1L, "food", 3000), product(2L, "food", 1000), product(3L, "fashion", 2000),
+                product(4L, "food", 4000)));
+    }
+
+    @Test
+    void page_SortedPathIssuesCursorOnlyWhenMoreMatchesRemain() {
+        RoaringBitmap food = index.filter(ProductFacetIndex.Filter.of("food", null));
+
+        ProductFacetIndex.Page first = index.page(food, ProductSort.PRICE, null, 2);
+        assertEquals(List.of(2L, 1L), first.getIds());
+        assertNotNull(first.getNext());
+
+        ProductFacetIndex.Page last = index.page(food, ProductSort.PRICE, first.getNext(), 1);
+        assertEquals(List.of(4L), last.getIds());
+        assertNull(last.getNext());
+    }
+
+    @Test
+    void page_IdPathIssuesCursorOnlyWhenMoreMatchesRemain() {
+        RoaringBitmap food = index.filter(ProductFacetIndex.Filter.of("food", null));
+
+        ProductFacetIndex.Page first = index.page(food, ProductSort.ID, null, 2);
+        assertEquals(List.of(1L, 2L), first.getIds());
+
+        ProductFacetIndex.Page last = index.page(food, ProductSort.ID, first.getNext(), 1);
+        assertEquals(List.of(4L), last.getIds());
+        assertNull(last.getNext());
+    }
+
+    @Test
+    void page_ReflectsChangesBeforeAndAfterViewRefresh() {
+        RoaringBitmap all = index.filter(ProductFacetIndex.Filter.of(null, null));
+        assertEquals(List.of(2L, 3L, 1L, 4L), index.page(all, ProductSort.PRICE, null, 10).getIds());
+
+        index.upsert(product(2L, "food", 5000));
+        index.upsert(product(5L, "food", 500));
+        index.remove(3L);
+        RoaringBitmap food = index.filter(ProductFacetIndex.Filter.of("food", null));
+        assertSortedPages(food);
+
+        index.refreshViews();
+        assertSortedPages(food);
+    }
+
+    private void assertSortedPages(RoaringBitmap food) {
+        ProductFacetIndex.Page first = index.page(food, ProductSort.PRICE, null, 2);
+        assertEquals(List.of(5L, 1L), first.getIds());
+        ProductFacetIndex.Page second = index.page(food, ProductSort.PRICE, first.getNext(), 2);
+        assertEquals(List.of(4L, 2L), second.getIds());
+        assertNull(second.getNext());
+    }
+
+    private static Product product(Long id, String category, int price) {
+        return Product.builder().id(id).name("상품 " + id).category(category).price(price).build();
+    }
+}
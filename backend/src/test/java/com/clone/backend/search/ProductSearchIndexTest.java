@@ -0,0 +1,81 @@
+package com.clone.backend.search;
+
+import com.clone.backend.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.rebuild(List.of(
+                product(1L, "농심 신라면 5개입", false, null),
+                product(2L, "농심 신라면", true, 1),
+                product(3L, "삼성 게이밍 모니터 27인치", false, null),
+                product(4L, "LG 울트라기어 게이밍 모니터", true, 3),
+                product(5L, "삼다수 2L 12병", false, null)));
+    }
+
+    @Test
+    void search_MatchesSubstringsOfEveryTerm() {
+        assertEquals(List.of(4L, 3L), index.search("게이밍 모니터"));
+        assertEquals(List.of(3L), index.search("삼성 모니터"));
+        assertEquals(List.of(), index.search("노트북"));
+    }
+
+    @Test
+    void search_RanksExactAndPopularProductsFirst() {
+        assertEquals(List.of(2L, 1L), index.search("신라면"));
+    }
+
+    @Test
+    void search_IsCaseInsensitiveAndSupportsSingleCharacter() {
+        assertEquals(List.of(4L), index.search("lg"));
+        assertEquals(List.of(5L), index.search("병"));
+    }
+
+    @Test
+    void upsertAndRemove_UpdatePostings() {
+        index.upsert(product(5L, "백산수 2L", false, null));
+        assertFalse(index.hasMatch("삼다수"));
+        assertTrue(index.hasMatch("백산수"));
+
+        index.remove(3L);
+        assertEquals(List.of(4L), index.search("모니터"));
+    }
+
+    @Test
+    void mergePending_KeepsSearchResults() {
+        index.upsert(product(6L, "삼성 오디세이 모니터", false, null));
+        index.remove(4L);
+        List<Long> before = index.search("모니터");
+
+        index.mergePending();
+
+        assertEquals(List.of(6L, 3L), before);
+        assertEquals(before, index.search("모니터"));
+    }
+
+    @Test
+    void indexGrams_DropsGramsRepeatedInOneProduct() {
+        // "2l"과 "12병"에 모두 '2'가 있음
+        int[] grams = ProductSearchIndex.indexGrams(ProductTextAnalyzer.terms("삼다수 2L 12병"));
+
+        assertEquals(Arrays.stream(grams).distinct().count(), grams.length);
+        assertTrue(Arrays.stream(grams).anyMatch(gram -> gram == ProductTextAnalyzer.indexGrams("2")[0]));
+    }
+
+    private Product product(Long id, String name, boolean best, Integer rank) {
+        return Product.builder().id(id).name(name).isBest(best).rank(rank).build();
+    }
+}
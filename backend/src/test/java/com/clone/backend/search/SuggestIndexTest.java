@@ -0,0 +1,28 @@
+package com.clone.backend.search;
+
+import com.clone.backend.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestIndexTest {
+
+    @Test
+    void suggest_ServesPreviousTrieUntilRefresh() {
+        SuggestIndex index = new SuggestIndex();
+        index.rebuild(List.of(product(1L, "게이밍 모니터")));
+
+        index.upsert(product(2L, "게이밍 마우스"));
+        assertEquals(List.of("게이밍", "게이밍 모니터"), index.suggest("게이", 10));
+
+        index.refresh();
+        assertEquals(List.of("게이밍"), index.suggest("게이", 1));
+        assertEquals(3, index.suggest("게이", 10).size());
+    }
+
+    private static Product product(Long id, String name) {
+        return Product.builder().id(id).name(name).price(1000).build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.clone.backend.search;
+
+import com.clone.backend.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TypoCorrectionIndexTest {
+
+    private TypoCorrectionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TypoCorrectionIndex();
+        index.rebuild(List.of(
+                product(1L, "농심 신라면"),
+                product(2L, "농심 신라면 5개입"),
+                product(3L, "[삼성] 게이밍 모니터 (27인치)"),
+                product(4L, "LG 그램 노트북")));
+    }
+
+    @Test
+    void findClosest_CorrectsSingleTypo() {
+        assertEquals("신라면", index.findClosest("산라면", 1));
+        assertEquals("모니터", index.findClosest("모나터", 1));
+    }
+
+    @Test
+    void findClosest_ReturnsNullWhenOutsideThreshold() {
+        assertNull(index.findClosest("냉장고", 1));
+    }
+
+    @Test
+    void upsertAndRemove_UpdateIndexIncrementally() {
+        index.upsert(product(4L, "LG 드럼세탁기"));
+        assertNull(index.findClosest("그렘", 1));
+        assertEquals("드럼세탁기", index.findClosest("드럼세탁가", 1));
+
+        index.remove(1L);
+        index.remove(2L);
+        assertNull(index.findClosest("산라면", 1));
+    }
+
+    @Test
+    void upsert_RevivesRemovedKeywordAndSurvivesCompaction() {
+        index.remove(1L);
+        index.remove(2L);
+        index.remove(3L);
+        // 삭제된 키워드가 과반이 되어 트리 재구성
+        assertEquals("노트북", index.findClosest("노트븍", 1));
+
+        index.upsert(product(5L, "오뚜기 신라면"));
+        assertEquals("신라면", index.findClosest("산라면", 1));
+        assertNull(index.findClosest("모나터", 1));
+    }
+
+    private Product product(Long id, String name) {
+        return Product.builder().id(id).name(name).build();
+    }
+}
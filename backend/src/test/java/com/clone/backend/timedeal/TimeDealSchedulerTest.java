@@ -0,0 +1,79 @@
+package com.clone.backend.timedeal;
+
+import com.clone.backend.model.Product;
+import com.clone.backend.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimeDealSchedulerTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private TimeDealScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TimeDealScheduler(productRepository, null);
+        scheduler.rebuild(List.of(
+                deal(1L, NOON.plusHours(2)),
+                deal(2L, NOON.plusHours(1)),
+                Product.builder().id(3L).isTimeDeal(false).timeDealEndTime(NOON).build()));
+    }
+
+    @Test
+    void getEarliestEndTime_IgnoresProductsWithoutActiveDeal() {
+        assertEquals(NOON.plusHours(1), scheduler.getEarliestEndTime());
+    }
+
+    @Test
+    void upsertAndRemove_KeepEarliestEndTimeCurrent() {
+        scheduler.upsert(deal(2L, NOON.plusHours(3)));
+        assertEquals(NOON.plusHours(2), scheduler.getEarliestEndTime());
+
+        scheduler.upsert(deal(4L, NOON.plusMinutes(30)));
+        assertEquals(NOON.plusMinutes(30), scheduler.getEarliestEndTime());
+
+        scheduler.remove(4L);
+        scheduler.upsert(Product.builder().id(1L).isTimeDeal(false).build());
+        assertEquals(NOON.plusHours(3), scheduler.getEarliestEndTime());
+
+        scheduler.remove(2L);
+        assertNull(scheduler.getEarliestEndTime());
+    }
+
+    @Test
+    void expireEndedDeals_RestoresOriginalEndTimesWhenUpdateFails() {
+        LocalDateTime extended = LocalDateTime.now().plusHours(1);
+        when(productRepository.expireTimeDeals(any(), any())).thenAnswer(invocation -> {
+            // 만료 UPDATE 도중 2번 타임딜이 연장됨
+            scheduler.upsert(deal(2L, extended));
+            throw new IllegalStateException("database unavailable");
+        });
+
+        scheduler.expireEndedDeals();
+
+        // 1번은 원래 종료 시간으로 되돌아가고, 2번은 연장된 종료 시간 유지
+        assertEquals(NOON.plusHours(2), scheduler.getEarliestEndTime());
+        scheduler.remove(1L);
+        assertEquals(extended, scheduler.getEarliestEndTime());
+    }
+
+    private Product deal(Long id, LocalDateTime endTime) {
+        return Product.builder().id(id).isTimeDeal(true).timeDealEndTime(endTime).build();
+    }
+}
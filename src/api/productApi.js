@@ -16,6 +16,14 @@ export const productApi = {
         return response.data;
     },
 
+    // 여러 상품 한 번에 조회 (요청 순서, 없는 상품 제외)
+    getProductsByIds: async (ids) => {
+        const response = await client.get('/products', {
+            params: { ids: ids.join(',') }
+        });
+        return response.data;
+    },
+
     // 타임딜 상품 조회
     getTimeDealProducts: async () => {
         const response = await client.get('/products', {
@@ -61,10 +69,37 @@ export const productApi = {
         return response.data;
     },
 
+    // 검색어 자동완성
+    getSearchSuggestions: async (prefix, limit = 10) => {
+        const response = await client.get('/products/search/suggest', {
+            params: { prefix, limit }
+        });
+        return response.data.suggestions;
+    },
+
     // 타임딜 종료 시간 조회
     getTimeDealEndTime: async () => {
         const response = await client.get('/products/timedeal/endtime');
         return response.data;
+    },
+
+    // 타임딜 실시간 스트림 구독 (SSE, 반환된 함수를 호출하면 구독 해제)
+    // handlers: onSnapshot, onDealStart, onDealEnd, onStock({ 상품ID: 재고 }), onEndTime
+    subscribeTimeDeals: (handlers) => {
+        const source = new EventSource('/api/products/timedeal/stream', { withCredentials: true });
+        const events = {
+            'snapshot': handlers.onSnapshot,
+            'deal-start': handlers.onDealStart,
+            'deal-end': handlers.onDealEnd,
+            'stock': handlers.onStock,
+            'endtime': handlers.onEndTime
+        };
+        Object.entries(events).forEach(([type, handler]) => {
+            if (handler) {
+                source.addEventListener(type, (event) => handler(JSON.parse(event.data)));
+            }
+        });
+        return () => source.close();
     }
 };
 
@@ -89,3 +124,28 @@ export const couponApi = {
     }
 };
 
+
+/**
+ * 주문 API 호출 함수 (재고 예약, 타임딜 대기열)
+ */
+export const orderApi = {
+    // 타임딜 대기열 입장/상태 확인 (입장 시 token, 대기 중이면 position/retryAfterMs)
+    enterAdmission: async (productId) => {
+        const response = await client.post(`/admission/${productId}`);
+        return response.data;
+    },
+
+    // 결제 전 재고 예약 (타임딜 상품은 입장권 필요)
+    reserveStock: async (orderId, items, admissionTokens = []) => {
+        const config = admissionTokens.length > 0
+            ? { headers: { 'X-Admission-Token': admissionTokens.join(',') } }
+            : undefined;
+        const response = await client.post('/orders/reservations', { orderId, items }, config);
+        return response.data;
+    },
+
+    // 재고 예약 해제 (결제 실패/취소)
+    releaseStock: async (orderId) => {
+        await client.delete(`/orders/reservations/${orderId}`);
+    }
+};
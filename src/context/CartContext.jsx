@@ -9,10 +9,20 @@ export const CartProvider = ({ children }) => {
     const [cart, setCart] = useState([]);
 
     // 장바구니 데이터 불러오기 (로그인: DB / 비로그인: LocalStorage)
+    // 로그인 직후 비로그인 때 담아둔 상품이 있으면 일괄 담기 한 번으로 합친 결과를 받음
     const fetchCart = async () => {
         if (user) {
+            const guestCart = JSON.parse(localStorage.getItem('cart') || '[]');
             try {
-                const response = await client.get('/cart');
+                const response = guestCart.length > 0
+                    ? await client.post('/cart/batch', {
+                        operations: guestCart.map(item => ({
+                            op: 'add',
+                            productId: item.id,
+                            quantity: item.quantity
+                        }))
+                    })
+                    : await client.get('/cart');
                 // Backend RedisCartItem -> Frontend Cart Item 매핑
                 const mappedCart = response.data.map(item => ({
                     id: item.productId,
@@ -4,7 +4,7 @@ import { loadTossPayments } from '@tosspayments/payment-sdk';
 import DaumPostcodeEmbed from 'react-daum-postcode';
 import { useCart } from '../context/CartContext';
 import { useAuth } from '../context/AuthContext';
-import { couponApi } from '../api/productApi';
+import { couponApi, orderApi } from '../api/productApi';
 import client from '../api/client';
 
 const clientKey = 'test_ck_D5GePWvyJnrK0W0k6q8gLzN97Eoq';
@@ -18,6 +18,7 @@ const Payment = () => {
     // Payment Status State
     const [status, setStatus] = useState('ready');
     const [errorMsg, setErrorMsg] = useState('');
+    const [queuePosition, setQueuePosition] = useState(null);
 
     // Form and Payment Method State
     const [paymentMethod, setPaymentMethod] = useState('카카오페이');
@@ -141,6 +142,15 @@ const Payment = () => {
         const orderId = urlParams.get('orderId');
         const amountVal = urlParams.get('amount');
         const usedPointsParam = urlParams.get('usedPoints');
+        const failCode = urlParams.get('code');
+
+        // 결제 실패/취소로 돌아온 경우 예약한 재고 해제
+        if (failCode && orderId) {
+            orderApi.releaseStock(orderId).catch(() => { });
+            setStatus('fail');
+            setErrorMsg(urlParams.get('message') || '결제가 취소되었습니다.');
+            return;
+        }
 
         // KakaoPay 인증 완료 후 redirect로 돌아온 경우
         if (paymentKey && orderId && amountVal) {
@@ -150,6 +160,7 @@ const Payment = () => {
                     // 토스 API 승인 대신 데모 주문 생성 (테스트 키로는 실제 승인 불가)
                     // 클론코딩/포트폴리오 목적이므로 결제 흐름만 시연
                     const response = await client.post('/orders/demo', {
+                        orderId,
                         orderName: decodeURIComponent(urlParams.get('orderName') || '상품 결제'),
                         amount: parseInt(amountVal),
                         usedPoints: usedPointsParam ? parseInt(usedPointsParam) : 0
@@ -205,13 +216,58 @@ const Payment = () => {
         return true;
     };
 
+    // 타임딜 대기열: 입장권을 받을 때까지 대기 순번을 표시하며 재확인
+    const waitForAdmission = async (productId) => {
+        for (;;) {
+            const admission = await orderApi.enterAdmission(productId);
+            if (admission.admitted) {
+                setQueuePosition(null);
+                return admission.token;
+            }
+            setQueuePosition(admission.position);
+            setStatus('waiting');
+            await new Promise(resolve => setTimeout(resolve, admission.retryAfterMs));
+        }
+    };
+
+    // 재고 예약 (타임딜 상품이라 입장권이 필요하면 대기열을 거친 뒤 재시도)
+    const reserveStock = async (orderId) => {
+        const reservationItems = items.map(item => ({ productId: item.id, quantity: item.quantity || 1 }));
+        const admissionTokens = {};
+        for (;;) {
+            try {
+                await orderApi.reserveStock(orderId, reservationItems, Object.values(admissionTokens));
+                setStatus('ready');
+                return;
+            } catch (err) {
+                const productId = err.response?.status === 403 ? err.response.data?.productId : null;
+                if (!productId || admissionTokens[productId]) {
+                    throw err;
+                }
+                admissionTokens[productId] = await waitForAdmission(productId);
+            }
+        }
+    };
+
     // 카카오페이 결제 시작 (토스 위젯으로 QR 표시)
     const handleKakaoPayment = async () => {
         if (!validateShippingInfo()) return;
 
+        const orderId = `ORDER_${Date.now()}`;
+
+        // 결제창을 열기 전에 재고 예약 (재고 부족 시 결제 진행 안 함)
+        if (items && items.length > 0) {
+            try {
+                await reserveStock(orderId);
+            } catch (err) {
+                setStatus('fail');
+                setErrorMsg(err.response?.data?.message || '재고 확인 중 오류가 발생했습니다.');
+                return;
+            }
+        }
+
         try {
             const tossPayments = await loadTossPayments(clientKey);
-            const orderId = `ORDER_${Date.now()}`;
 
             await tossPayments.requestPayment('카드', {
                 amount: finalAmount,
@@ -225,6 +281,8 @@ const Payment = () => {
             });
         } catch (err) {
             console.error(err);
+            // 결제창을 열지 못했거나 닫은 경우 예약한 재고 해제
+            orderApi.releaseStock(orderId).catch(() => { });
             // 사용자가 결제창을 닫은 경우 등 - 무시
             if (err.code !== 'USER_CANCEL') {
                 setStatus('fail');
@@ -234,6 +292,13 @@ const Payment = () => {
     };
 
     // Render Logic
+    if (status === 'waiting') return (
+        <div style={{ textAlign: 'center', padding: '100px' }}>
+            <h2>접속 대기 중입니다</h2>
+            <p>현재 대기 순번: <strong>{queuePosition}</strong>번</p>
+            <p style={{ color: '#666' }}>순서가 되면 자동으로 결제가 진행됩니다.</p>
+        </div>
+    );
     if (status === 'processing') return <div style={{ textAlign: 'center', padding: '100px' }}>결제 승인 중입니다...</div>;
     if (status === 'fail') return (
         <div style={{ textAlign: 'center', padding: '100px' }}>
@@ -82,6 +82,21 @@ const ShockingDeal = () => {
         fetchTimeDealData();
     }, []);
 
+    // 실시간 재고 변경/타임딜 종료 반영 (SSE, 목록 재조회 없이 갱신)
+    useEffect(() => {
+        const unsubscribe = productApi.subscribeTimeDeals({
+            onStock: (stocks) => {
+                setShockingDeals((prev) => prev.map((product) =>
+                    stocks[product.id] !== undefined ? { ...product, stockQuantity: stocks[product.id] } : product
+                ));
+            },
+            onDealEnd: ({ productId }) => {
+                setShockingDeals((prev) => prev.filter((product) => product.id !== productId));
+            }
+        });
+        return unsubscribe;
+    }, []);
+
     // Auto-slide effect
     useEffect(() => {
         const slideInterval = setInterval(() => {